@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * DRL generated from Guided Decision Tables, shared by all sessions. The DRL is keyed on a digest of the
+ * content of the table and the DSLs of its package, see makeKey. The DRL of a large table can be several
+ * MB, so the cache holds at most a given number of characters of DRL rather than a number of tables.
+ */
+@ApplicationScoped
+public class GuidedDecisionTableSourceCache {
+
+    public static final int DEFAULT_MAX_CHARACTERS = 16 * 1024 * 1024;
+
+    private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final int maxCharacters;
+
+    private final Map<String, String> sources;
+
+    private long characters = 0;
+
+    public GuidedDecisionTableSourceCache() {
+        this( DEFAULT_MAX_CHARACTERS );
+    }
+
+    public GuidedDecisionTableSourceCache( final int maxCharacters ) {
+        this.maxCharacters = maxCharacters;
+        this.sources = new LinkedHashMap<String, String>( 16,
+                                                          0.75f,
+                                                          true ) {
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry<String, String> eldest ) {
+                //One large DRL can take the place of several smaller ones, so the least recently used
+                //are removed here until the characters fit, and false is returned as LinkedHashMap allows
+                final Iterator<Map.Entry<String, String>> leastRecentlyUsed = entrySet().iterator();
+                while ( characters > GuidedDecisionTableSourceCache.this.maxCharacters ) {
+                    characters -= leastRecentlyUsed.next().getValue().length();
+                    leastRecentlyUsed.remove();
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return The DRL generated from the content and DSLs, or null if it is not in the cache
+     */
+    public synchronized String getSource( final String key ) {
+        return sources.get( key );
+    }
+
+    public synchronized void putSource( final String key,
+                                        final String drl ) {
+        //DRL larger than the whole cache would only evict everything else
+        if ( drl.length() > maxCharacters ) {
+            return;
+        }
+        final String previous = sources.remove( key );
+        if ( previous != null ) {
+            characters -= previous.length();
+        }
+        characters += drl.length();
+        sources.put( key,
+                     drl );
+    }
+
+    public synchronized void clear() {
+        sources.clear();
+        characters = 0;
+    }
+
+    synchronized int size() {
+        return sources.size();
+    }
+
+    /**
+     * Make the key for DRL generated from a Guided Decision Table.
+     * @param content The XML of the Guided Decision Table
+     * @param dslDefinitions The DSLs of the Guided Decision Table's package
+     */
+    public String makeKey( final String content,
+                           final List<String> dslDefinitions ) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+            update( digest,
+                    content );
+            for ( String dslDefinition : dslDefinitions ) {
+                update( digest,
+                        dslDefinition );
+            }
+            return toHex( digest.digest() );
+
+        } catch ( NoSuchAlgorithmException e ) {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private void update( final MessageDigest digest,
+                         final String value ) {
+        //The length keeps the values apart, so the same characters split differently make a different key
+        final byte[] bytes = value.getBytes( UTF_8 );
+        digest.update( Integer.toString( bytes.length ).getBytes( UTF_8 ) );
+        digest.update( (byte) ':' );
+        digest.update( bytes );
+    }
+
+    private String toHex( final byte[] bytes ) {
+        final char[] hex = new char[ bytes.length * 2 ];
+        for ( int i = 0; i < bytes.length; i++ ) {
+            hex[ i * 2 ] = HEX[ ( bytes[ i ] >> 4 ) & 0xF ];
+            hex[ i * 2 + 1 ] = HEX[ bytes[ i ] & 0xF ];
+        }
+        return new String( hex );
+    }
+
+}
@@ -16,30 +16,21 @@
 
 package org.drools.workbench.screens.guided.dtable.backend.server;
 
-import java.io.IOException;
-import java.io.StringReader;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.List;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.drools.compiler.lang.Expander;
-import org.drools.compiler.lang.dsl.DSLMappingFile;
-import org.drools.compiler.lang.dsl.DSLTokenizedMappingFile;
-import org.drools.compiler.lang.dsl.DefaultExpander;
 import org.drools.workbench.models.guided.dtable.backend.GuidedDTDRLPersistence;
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
-import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
-import org.guvnor.common.services.backend.file.FileDiscoveryService;
-import org.kie.workbench.common.services.backend.file.DSLFileFilter;
+import org.drools.workbench.screens.guided.rule.backend.server.DSLMappingFileCache;
+import org.drools.workbench.screens.guided.rule.backend.server.GuidedRuleEditorServiceUtilities;
 import org.kie.workbench.common.services.backend.source.BaseSourceService;
-import org.kie.workbench.common.services.shared.project.KieProjectService;
 import org.kie.workbench.common.services.shared.source.SourceGenerationFailedException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.io.IOService;
 import org.uberfire.java.nio.file.Path;
@@ -48,25 +39,21 @@ import org.uberfire.java.nio.file.Path;
 public class GuidedDecisionTableSourceService
         extends BaseSourceService<GuidedDecisionTable52> {
 
-    private static final Logger logger = LoggerFactory.getLogger( GuidedDecisionTableSourceService.class );
-
-    private static final DSLFileFilter FILTER_DSLS = new DSLFileFilter();
-
     @Inject
     private GuidedDTableResourceTypeDefinition resourceType;
 
     @Inject
-    private GuidedDecisionTableEditorService guidedDecisionTableEditorService;
+    private GuidedDecisionTableSourceCache sourceCache;
 
     @Inject
-    @Named("ioStrategy")
-    private IOService ioService;
+    private DSLMappingFileCache dslMappingFileCache;
 
     @Inject
-    private FileDiscoveryService fileDiscoveryService;
+    @Named("ioStrategy")
+    private IOService ioService;
 
     @Inject
-    private KieProjectService projectService;
+    private GuidedRuleEditorServiceUtilities utilities;
 
     @Override
     public String getPattern() {
@@ -78,10 +65,8 @@ public class GuidedDecisionTableSourceService
                              final GuidedDecisionTable52 model ) throws SourceGenerationFailedException {
 
         try {
-            final String dslr = GuidedDTDRLPersistence.getInstance().marshal( model );
-            final Expander expander = getDSLExpander( path );
-            final String drl = expander.expand( dslr );
-            return drl;
+            return getSource( model,
+                              getDSLDefinitions( path ) );
 
         } catch ( Exception e ) {
             throw new SourceGenerationFailedException( e.getMessage() );
@@ -90,43 +75,41 @@ public class GuidedDecisionTableSourceService
 
     @Override
     public String getSource( final Path path ) throws SourceGenerationFailedException {
-        return getSource( path,
-                          guidedDecisionTableEditorService.load( Paths.convert( path ) ) );
-    }
+        try {
+            //The DRL of a table only changes when the table or the DSLs of its package change
+            final String content = ioService.readAllString( path );
+            final List<String> dslDefinitions = getDSLDefinitions( path );
+            final String key = sourceCache.makeKey( content,
+                                                    dslDefinitions );
+            String drl = sourceCache.getSource( key );
+            if ( drl == null ) {
+                drl = getSource( GuidedDTXMLPersistence.getInstance().unmarshal( content ),
+                                 dslDefinitions );
+                sourceCache.putSource( key,
+                                       drl );
+            }
+            return drl;
 
-    /**
-     * Returns an expander for DSLs (only if there is a DSL configured for this package).
-     */
-    private Expander getDSLExpander( final Path path ) {
-        final Expander expander = new DefaultExpander();
-        final List<DSLMappingFile> dsls = getDSLMappingFiles( path );
-        for ( DSLMappingFile dsl : dsls ) {
-            expander.addDSLMapping( dsl.getMapping() );
+        } catch ( Exception e ) {
+            throw new SourceGenerationFailedException( e.getMessage() );
         }
-        return expander;
     }
 
-    private List<DSLMappingFile> getDSLMappingFiles( final Path path ) {
-        final List<DSLMappingFile> dsls = new ArrayList<DSLMappingFile>();
-        final org.uberfire.backend.vfs.Path vfsPath = Paths.convert( path );
-        final org.uberfire.backend.vfs.Path packagePath = projectService.resolvePackage( vfsPath ).getPackageMainResourcesPath();
-        final org.uberfire.java.nio.file.Path nioPackagePath = Paths.convert( packagePath );
-        final Collection<Path> dslPaths = fileDiscoveryService.discoverFiles( nioPackagePath,
-                                                                              FILTER_DSLS );
-        for ( final org.uberfire.java.nio.file.Path dslPath : dslPaths ) {
-            final String dslDefinition = ioService.readAllString( dslPath );
-            final DSLTokenizedMappingFile dslFile = new DSLTokenizedMappingFile();
-            try {
-                if ( dslFile.parseAndLoad( new StringReader( dslDefinition ) ) ) {
-                    dsls.add( dslFile );
-                } else {
-                    logger.error( "Unable to parse DSL definition: " + dslDefinition );
-                }
-            } catch ( IOException ioe ) {
-                logger.error( ioe.getMessage() );
-            }
-        }
-        return dsls;
+    private String getSource( final GuidedDecisionTable52 model,
+                              final List<String> dslDefinitions ) {
+        final String dslr = marshal( model );
+        final Expander expander = dslMappingFileCache.getDSLExpander( dslDefinitions );
+        final String drl = expander.expand( dslr );
+        return drl;
+    }
+
+    //Override for tests that check when the DRL is generated
+    String marshal( final GuidedDecisionTable52 model ) {
+        return GuidedDTDRLPersistence.getInstance().marshal( model );
+    }
+
+    private List<String> getDSLDefinitions( final Path path ) {
+        return Arrays.asList( utilities.loadDslsForPackage( Paths.convert( path ) ) );
     }
 
 }
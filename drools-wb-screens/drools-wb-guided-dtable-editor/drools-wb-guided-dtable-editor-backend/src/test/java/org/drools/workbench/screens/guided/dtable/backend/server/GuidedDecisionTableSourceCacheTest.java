@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GuidedDecisionTableSourceCacheTest {
+
+    private final GuidedDecisionTableSourceCache cache = new GuidedDecisionTableSourceCache( 10 );
+
+    @Test
+    public void testKeyChangesWithContentAndDSLs() {
+        final String key = cache.makeKey( "<table/>",
+                                          Collections.<String>emptyList() );
+
+        assertEquals( key,
+                      cache.makeKey( "<table/>",
+                                     Collections.<String>emptyList() ) );
+        assertFalse( key.equals( cache.makeKey( "<table />",
+                                                Collections.<String>emptyList() ) ) );
+        assertFalse( key.equals( cache.makeKey( "<table/>",
+                                                Arrays.asList( "[when]a=b" ) ) ) );
+        assertFalse( cache.makeKey( "<table/>",
+                                    Arrays.asList( "ab",
+                                                   "c" ) ).equals( cache.makeKey( "<table/>",
+                                                                                  Arrays.asList( "a",
+                                                                                                 "bc" ) ) ) );
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSourcesAreDroppedWhenFull() {
+        cache.putSource( "k1",
+                         "1234" );
+        cache.putSource( "k2",
+                         "1234" );
+
+        //Use k1 so k2 is the least recently used
+        assertEquals( "1234",
+                      cache.getSource( "k1" ) );
+        cache.putSource( "k3",
+                         "1234" );
+
+        assertEquals( "1234",
+                      cache.getSource( "k1" ) );
+        assertNull( cache.getSource( "k2" ) );
+        assertEquals( "1234",
+                      cache.getSource( "k3" ) );
+        assertEquals( 2,
+                      cache.size() );
+    }
+
+    @Test
+    public void testLargeSourceDropsSeveralSources() {
+        cache.putSource( "k1",
+                         "1234" );
+        cache.putSource( "k2",
+                         "1234" );
+        cache.putSource( "k3",
+                         "123456789" );
+
+        assertNull( cache.getSource( "k1" ) );
+        assertNull( cache.getSource( "k2" ) );
+        assertEquals( "123456789",
+                      cache.getSource( "k3" ) );
+    }
+
+    @Test
+    public void testReplacedSourceIsNotCountedTwice() {
+        cache.putSource( "k1",
+                         "1234" );
+        cache.putSource( "k1",
+                         "12345" );
+        cache.putSource( "k2",
+                         "12345" );
+
+        assertEquals( "12345",
+                      cache.getSource( "k1" ) );
+        assertEquals( 2,
+                      cache.size() );
+    }
+
+    @Test
+    public void testSourceLargerThanTheCacheIsNotKept() {
+        cache.putSource( "k1",
+                         "1234" );
+        cache.putSource( "k2",
+                         "12345678901" );
+
+        assertEquals( "1234",
+                      cache.getSource( "k1" ) );
+        assertNull( cache.getSource( "k2" ) );
+    }
+
+}
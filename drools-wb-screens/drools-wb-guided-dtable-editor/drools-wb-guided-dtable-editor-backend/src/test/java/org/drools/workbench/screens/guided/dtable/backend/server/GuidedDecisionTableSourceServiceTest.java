@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.rule.backend.server.DSLMappingFileCache;
+import org.drools.workbench.screens.guided.rule.backend.server.GuidedRuleEditorServiceUtilities;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Paths;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GuidedDecisionTableSourceServiceTest {
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private GuidedRuleEditorServiceUtilities utilities;
+
+    @Spy
+    private GuidedDecisionTableSourceCache sourceCache = new GuidedDecisionTableSourceCache();
+
+    @Spy
+    private DSLMappingFileCache dslMappingFileCache = new DSLMappingFileCache();
+
+    @InjectMocks
+    GuidedDecisionTableSourceServiceWithMarshalCount service;
+
+    private final org.uberfire.java.nio.file.Path path = Paths.get( "default://project/src/main/resources/dtable1.gdst" );
+
+    @Before
+    public void setUp() throws Exception {
+        when( utilities.loadDslsForPackage( any( Path.class ) ) ).thenReturn( new String[ 0 ] );
+        when( ioService.readAllString( path ) ).thenReturn( makeTable( "table1" ) );
+    }
+
+    @Test
+    public void testUnchangedTableIsNotMarshalledAgain() throws Exception {
+        final String drl = service.getSource( path );
+        assertEquals( 1,
+                      service.marshalCount );
+
+        assertEquals( drl,
+                      service.getSource( path ) );
+        assertEquals( 1,
+                      service.marshalCount );
+    }
+
+    @Test
+    public void testChangedTableIsMarshalledAgain() throws Exception {
+        service.getSource( path );
+
+        when( ioService.readAllString( path ) ).thenReturn( makeTable( "table2" ) );
+        service.getSource( path );
+
+        assertEquals( 2,
+                      service.marshalCount );
+    }
+
+    private String makeTable( final String tableName ) {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+        model.setTableName( tableName );
+        return GuidedDTXMLPersistence.getInstance().marshal( model );
+    }
+
+    public static class GuidedDecisionTableSourceServiceWithMarshalCount extends GuidedDecisionTableSourceService {
+
+        private int marshalCount = 0;
+
+        @Override
+        String marshal( final GuidedDecisionTable52 model ) {
+            // override needed as GuidedDTDRLPersistence is a singleton that can not be mocked
+            marshalCount++;
+            return super.marshal( model );
+        }
+    }
+
+}
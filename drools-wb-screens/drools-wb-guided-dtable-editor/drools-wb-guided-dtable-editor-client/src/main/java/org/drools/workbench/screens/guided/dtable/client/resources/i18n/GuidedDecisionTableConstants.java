@@ -457,6 +457,9 @@ public interface GuidedDecisionTableConstants
 
     String DecisionTableWizardCannotRemoveImport();
 
+    String DecisionTableWizardTooManyRows0Max1( long rowCount,
+                                                int maxRowCount );
+
     String BindingFact();
 
     String BindingDescription();
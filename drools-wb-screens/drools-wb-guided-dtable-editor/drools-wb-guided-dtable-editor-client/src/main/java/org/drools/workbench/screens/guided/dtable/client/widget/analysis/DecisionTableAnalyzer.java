@@ -16,8 +16,7 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Map;
 
 import com.google.gwt.event.shared.EventBus;
 import com.google.gwt.user.client.Window;
@@ -25,11 +24,9 @@ import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTabl
 import org.drools.workbench.screens.guided.dtable.client.resources.i18n.AnalysisConstants;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.RuleInspector;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.RuleInspectorCache;
-import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base.Check;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base.Checks;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.panel.AnalysisReport;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.panel.AnalysisReportScreen;
-import org.drools.workbench.screens.guided.dtable.client.widget.analysis.reporting.Issue;
 import org.jboss.errai.ioc.client.container.IOC;
 import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.events.AfterColumnDeleted;
@@ -55,22 +52,23 @@ public class DecisionTableAnalyzer
     private final ParameterizedCommand<Status> onStatus     = getOnStatusCommand();
     private final Command                      onCompletion = getOnCompletionCommand();
 
-    private final PlaceRequest          place;
-    private final RuleInspectorCache    cache;
-    private final GuidedDecisionTable52 model;
+    private final PlaceRequest                place;
+    private final AsyncPackageDataModelOracle oracle;
+    private final GuidedDecisionTable52       model;
+
     private final EventManager eventManager = new EventManager();
 
+    //Built when the table is first analysed, the modeller can have many tables open but only analyses the selected one
+    private RuleInspectorCache cache;
+
     public DecisionTableAnalyzer( final PlaceRequest place,
                                   final AsyncPackageDataModelOracle oracle,
                                   final GuidedDecisionTable52 model,
                                   final EventBus eventBus ) {
         this.place = place;
+        this.oracle = oracle;
         this.model = model;
 
-        cache = new RuleInspectorCache( oracle,
-                                        model,
-                                        checks );
-
         eventBus.addHandler( ValidateEvent.TYPE,
                              this );
         eventBus.addHandler( DeleteRowEvent.TYPE,
@@ -117,8 +115,22 @@ public class DecisionTableAnalyzer
         };
     }
 
+    private RuleInspectorCache getCache() {
+        if ( cache == null ) {
+            cache = new RuleInspectorCache( oracle,
+                                            model,
+                                            checks );
+        }
+        return cache;
+    }
+
+    //Until the table is analysed there is nothing to update, the cache is built from the model as it is then
+    private boolean isAnalysed() {
+        return cache != null;
+    }
+
     private void resetChecks() {
-        for ( RuleInspector ruleInspector : cache.all() ) {
+        for ( RuleInspector ruleInspector : getCache().all() ) {
             checks.add( ruleInspector );
         }
     }
@@ -130,17 +142,8 @@ public class DecisionTableAnalyzer
 
     protected AnalysisReport makeAnalysisReport() {
         final AnalysisReport report = new AnalysisReport( place );
-        final Set<Issue> unorderedIssues = new HashSet<Issue>();
-
-        for ( final RuleInspector ruleInspector : cache.all() ) {
-            for ( final Check check : checks.get( ruleInspector ) ) {
-                if ( check.hasIssues() ) {
-                    unorderedIssues.add( check.getIssue() );
-                }
-            }
-        }
 
-        report.setIssues( unorderedIssues );
+        report.setIssues( checks.getIssues() );
 
         return report;
     }
@@ -163,21 +166,40 @@ public class DecisionTableAnalyzer
 
     @Override
     public void onAfterDeletedColumn( final AfterColumnDeleted event ) {
-        cache.deleteColumns( event.getFirstColumnIndex(),
-                             event.getNumberOfColumns() );
-        resetChecks();
+        if ( !isAnalysed() ) {
+            return;
+        }
+
+        updateChecks( cache.deleteColumns( event.getFirstColumnIndex(),
+                                           event.getNumberOfColumns() ) );
         analyze();
     }
 
     @Override
     public void onAfterColumnInserted( final AfterColumnInserted event ) {
-        cache.newColumn( event.getIndex() );
-        resetChecks();
+        if ( !isAnalysed() ) {
+            return;
+        }
+
+        updateChecks( cache.newColumn( event.getIndex() ) );
         analyze();
     }
 
+    private void updateChecks( final Map<RuleInspector, RuleInspector> replacedRuleInspectors ) {
+        if ( checks.isEmpty() ) {
+            resetChecks();
+        } else {
+            checks.update( replacedRuleInspectors );
+        }
+    }
+
     @Override
     public void onUpdateColumnData( final UpdateColumnDataEvent event ) {
+        if ( !isAnalysed() ) {
+            eventManager.clear();
+            return;
+        }
+
         if ( hasTheRowCountIncreased( event ) ) {
             addRow( eventManager.getNewIndex() );
             analyze();
@@ -202,7 +224,7 @@ public class DecisionTableAnalyzer
     private void addRow( final int index ) {
         final RuleInspector ruleInspector = cache.addRow( index,
                                                           model.getData().get( index ) );
-        checks.add( ruleInspector );
+        checks.addRow( ruleInspector );
     }
 
     @Override
@@ -24,13 +24,25 @@ public class Status {
     private int startRowIndex;
     private int endRowIndex;
     private int totalRowCount;
+    private int checksPerSecond;
 
     public Status( final int startRowIndex,
                    final int endRowIndex,
                    final int totalRowCount ) {
+        this( startRowIndex,
+              endRowIndex,
+              totalRowCount,
+              0 );
+    }
+
+    public Status( final int startRowIndex,
+                   final int endRowIndex,
+                   final int totalRowCount,
+                   final int checksPerSecond ) {
         this.startRowIndex = startRowIndex;
         this.endRowIndex = endRowIndex;
         this.totalRowCount = totalRowCount;
+        this.checksPerSecond = checksPerSecond;
     }
 
     public int getStart() {
@@ -45,4 +57,8 @@ public class Status {
         return totalRowCount;
     }
 
+    public int getChecksPerSecond() {
+        return checksPerSecond;
+    }
+
 }
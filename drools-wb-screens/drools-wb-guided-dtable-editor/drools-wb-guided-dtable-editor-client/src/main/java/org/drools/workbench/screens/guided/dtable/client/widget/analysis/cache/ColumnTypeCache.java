@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnUtilities;
+import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
+
+/**
+ * Resolves the type and the value list of a column once for all the cells of the column. Resolving the type
+ * asks the data model oracle and the value list is split from the column every time.
+ * The columns are kept by identity and editing a column changes its operator, field type and value list in place,
+ * so the cached values are cleared at the start of every index operation.
+ */
+class ColumnTypeCache
+        extends ColumnUtilities {
+
+    private final Map<BaseColumn, String>   types      = new IdentityHashMap<>();
+    private final Map<BaseColumn, String[]> valueLists = new IdentityHashMap<>();
+
+    ColumnTypeCache( final GuidedDecisionTable52 model,
+                     final AsyncPackageDataModelOracle oracle ) {
+        super( model,
+               oracle );
+    }
+
+    @Override
+    public String getType( final BaseColumn column ) {
+        if ( types.containsKey( column ) ) {
+            return types.get( column );
+        }
+        final String type = super.getType( column );
+        types.put( column,
+                   type );
+        return type;
+    }
+
+    @Override
+    public String[] getValueList( final BaseColumn column ) {
+        String[] valueList = valueLists.get( column );
+        if ( valueList == null ) {
+            valueList = super.getValueList( column );
+            valueLists.put( column,
+                            valueList );
+        }
+        return valueList;
+    }
+
+    void clear() {
+        types.clear();
+        valueLists.clear();
+    }
+}
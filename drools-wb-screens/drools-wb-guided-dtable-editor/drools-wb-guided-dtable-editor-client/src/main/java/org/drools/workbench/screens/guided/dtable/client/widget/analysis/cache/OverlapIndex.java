@@ -0,0 +1,314 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.condition.ComparableConditionInspector;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.condition.ConditionInspector;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.util.Operator;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Field;
+
+/**
+ * Groups the condition inspectors of every row by field and by value. Rows that have conflicting conditions
+ * on a shared field can never be redundant, subsume each other or conflict, so the pair checks only need to
+ * be created for the candidates this index returns.
+ * <p>
+ * Each group is compared against the other groups of the same field once, using the condition inspectors
+ * themselves, so the result is exactly what the pair checks would find. Single value equality groups only
+ * overlap with the group of the same value, so a row with such a condition is only compared against the rows
+ * in its own group and the rows that have some other kind of condition, or no condition, on that field.
+ */
+public class OverlapIndex {
+
+    private final Map<Field, FieldBuckets> fields = new HashMap<>();
+
+    private final Map<RuleInspector, List<Bucket>> ruleInspectors = new LinkedHashMap<>();
+
+    public OverlapIndex( final Collection<RuleInspector> ruleInspectors ) {
+        for ( final RuleInspector ruleInspector : ruleInspectors ) {
+            add( ruleInspector );
+        }
+    }
+
+    public boolean contains( final RuleInspector ruleInspector ) {
+        return ruleInspectors.containsKey( ruleInspector );
+    }
+
+    /**
+     * @return Every other row whose conditions can overlap with the conditions of the given row.
+     */
+    public Collection<RuleInspector> getCandidates( final RuleInspector ruleInspector ) {
+        final List<Bucket> buckets = ruleInspectors.get( ruleInspector );
+        if ( buckets == null ) {
+            return getOthers( ruleInspector,
+                              ruleInspectors.keySet() );
+        }
+
+        final List<RuleInspector> result = new ArrayList<>();
+        for ( final RuleInspector other : getOthers( ruleInspector,
+                                                     getPossibleCandidates( buckets ) ) ) {
+            if ( !conflicts( buckets,
+                             ruleInspectors.get( other ) ) ) {
+                result.add( other );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Every row outside of these was excluded by the most selective equality condition of the row.
+     */
+    private Collection<RuleInspector> getPossibleCandidates( final List<Bucket> buckets ) {
+        Bucket selective = null;
+        for ( final Bucket bucket : buckets ) {
+            if ( fields.get( bucket.field ).isSwept( bucket )
+                    && ( selective == null || bucket.ruleInspectors.size() < selective.ruleInspectors.size() ) ) {
+                selective = bucket;
+            }
+        }
+
+        if ( selective == null ) {
+            return ruleInspectors.keySet();
+        }
+
+        final FieldBuckets fieldBuckets = fields.get( selective.field );
+        final Set<RuleInspector> result = new HashSet<>( selective.ruleInspectors );
+        result.addAll( fieldBuckets.rowsWithOtherConditions );
+        result.addAll( fieldBuckets.getRowsWithoutConditions( ruleInspectors.keySet() ) );
+        return result;
+    }
+
+    private List<RuleInspector> getOthers( final RuleInspector ruleInspector,
+                                           final Collection<RuleInspector> ruleInspectors ) {
+        final List<RuleInspector> result = new ArrayList<>();
+        for ( final RuleInspector other : ruleInspectors ) {
+            if ( !other.equals( ruleInspector ) ) {
+                result.add( other );
+            }
+        }
+        return result;
+    }
+
+    private boolean conflicts( final List<Bucket> buckets,
+                               final List<Bucket> otherBuckets ) {
+        for ( final Bucket bucket : buckets ) {
+            for ( final Bucket other : otherBuckets ) {
+                if ( bucket.field.equals( other.field ) && bucket.conflicts( other ) ) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void add( final RuleInspector ruleInspector ) {
+        final List<Bucket> buckets = new ArrayList<>();
+
+        for ( final PatternInspector patternInspector : ruleInspector.getPatternsInspector() ) {
+            final ConditionsInspector conditionsInspector = patternInspector.getConditionsInspector();
+
+            for ( final Field field : conditionsInspector.keys() ) {
+                for ( final ConditionInspector conditionInspector : conditionsInspector.get( field ) ) {
+                    if ( isIndexable( conditionInspector ) ) {
+                        final FieldBuckets fieldBuckets = resolveFieldBuckets( field );
+                        final Bucket bucket = fieldBuckets.resolveBucket( field,
+                                                                          ( ComparableConditionInspector ) conditionInspector );
+                        bucket.ruleInspectors.add( ruleInspector );
+                        buckets.add( bucket );
+
+                        fieldBuckets.rows.add( ruleInspector );
+                        if ( !fieldBuckets.isSwept( bucket ) ) {
+                            fieldBuckets.rowsWithOtherConditions.add( ruleInspector );
+                        }
+                    }
+                }
+            }
+        }
+
+        ruleInspectors.put( ruleInspector,
+                            buckets );
+    }
+
+    private boolean isIndexable( final ConditionInspector conditionInspector ) {
+        return conditionInspector instanceof ComparableConditionInspector
+                && !conditionInspector.getValues().isEmpty()
+                && !conditionInspector.getValues().contains( null );
+    }
+
+    private FieldBuckets resolveFieldBuckets( final Field field ) {
+        FieldBuckets fieldBuckets = fields.get( field );
+        if ( fieldBuckets == null ) {
+            fieldBuckets = new FieldBuckets();
+            fields.put( field,
+                        fieldBuckets );
+        }
+        return fieldBuckets;
+    }
+
+    /**
+     * The groups of one field.
+     */
+    private static class FieldBuckets {
+
+        private final Map<ConditionKey, Bucket> buckets                 = new HashMap<>();
+        private final Set<RuleInspector>       rows                    = new HashSet<>();
+        private final Set<RuleInspector>       rowsWithOtherConditions = new HashSet<>();
+
+        //Resolved on first use, the index does not change once it is built
+        private Set<RuleInspector> rowsWithoutConditions;
+
+        //Equality conditions of this type are looked up by value, others are compared against every group
+        private Class equalityType;
+
+        private Bucket resolveBucket( final Field field,
+                                      final ComparableConditionInspector conditionInspector ) {
+            final ConditionKey key = new ConditionKey( conditionInspector );
+            Bucket bucket = buckets.get( key );
+            if ( bucket == null ) {
+                bucket = new Bucket( field,
+                                     conditionInspector );
+                buckets.put( key,
+                             bucket );
+            }
+            return bucket;
+        }
+
+        private boolean isSwept( final Bucket bucket ) {
+            if ( !bucket.isEquality() ) {
+                return false;
+            }
+            if ( equalityType == null ) {
+                equalityType = bucket.representative.getClass();
+            }
+            return equalityType.equals( bucket.representative.getClass() );
+        }
+
+        private Set<RuleInspector> getRowsWithoutConditions( final Set<RuleInspector> allRows ) {
+            if ( rowsWithoutConditions == null ) {
+                rowsWithoutConditions = new HashSet<>( allRows );
+                rowsWithoutConditions.removeAll( rows );
+            }
+            return rowsWithoutConditions;
+        }
+    }
+
+    /**
+     * Rows whose conditions on a field have the same inspector type, operator and values.
+     */
+    private static class Bucket {
+
+        private final Field                        field;
+        private final ComparableConditionInspector representative;
+        private final Set<RuleInspector>           ruleInspectors = new HashSet<>();
+        private final Map<Bucket, Boolean>         conflicts      = new HashMap<>();
+
+        private Bucket( final Field field,
+                        final ComparableConditionInspector representative ) {
+            this.field = field;
+            this.representative = representative;
+        }
+
+        private boolean isEquality() {
+            return Operator.EQUALS.equals( representative.getOperator() )
+                    && representative.getValues().size() == 1;
+        }
+
+        /**
+         * Only buckets that conflict both ways are reported, so the result does not depend on which of
+         * the two rows owns the pair check.
+         */
+        private boolean conflicts( final Bucket other ) {
+            //Equality conditions of the same type only overlap when the value is the same, and then they share the bucket
+            if ( isEquality() && other.isEquality() && representative.getClass().equals( other.representative.getClass() ) ) {
+                return this != other;
+            }
+
+            Boolean result = conflicts.get( other );
+            if ( result == null ) {
+                result = representative.conflicts( other.representative )
+                        && other.representative.conflicts( representative );
+                conflicts.put( other,
+                               result );
+                other.conflicts.put( this,
+                                     result );
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Values that the condition inspectors find equal make the same key, so they share a bucket.
+     */
+    private static class ConditionKey {
+
+        private final Class            type;
+        private final Operator         operator;
+        private final List<Comparable> values = new ArrayList<>();
+
+        private ConditionKey( final ComparableConditionInspector conditionInspector ) {
+            this.type = conditionInspector.getClass();
+            this.operator = conditionInspector.getOperator();
+            for ( final Object value : conditionInspector.getValues() ) {
+                values.add( normalise( ( Comparable ) value ) );
+            }
+        }
+
+        //BigDecimal equals is scale sensitive, the inspectors use compareTo so 10 and 10.0 are the same value
+        private static Comparable normalise( final Comparable value ) {
+            if ( value instanceof BigDecimal ) {
+                final BigDecimal bigDecimal = ( BigDecimal ) value;
+                if ( bigDecimal.signum() == 0 ) {
+                    return BigDecimal.ZERO;
+                }
+                return bigDecimal.stripTrailingZeros();
+            }
+            return value;
+        }
+
+        @Override
+        public boolean equals( final Object o ) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() ) {
+                return false;
+            }
+
+            final ConditionKey that = ( ConditionKey ) o;
+
+            return type.equals( that.type )
+                    && operator.equals( that.operator )
+                    && values.equals( that.values );
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type.hashCode();
+            result = 31 * result + operator.hashCode();
+            result = 31 * result + values.hashCode();
+            return result;
+        }
+    }
+}
@@ -59,6 +59,9 @@ public class RuleInspector
     private final List<ConditionInspector> brlConditionsInspectors = new ArrayList<>();
     private final List<ActionInspector>    brlActionInspectors     = new ArrayList<>();
 
+    private InspectorList<ConditionsInspector> conditionsInspectors;
+    private InspectorList<ActionsInspector>    actionsInspectors;
+
     public RuleInspector( final Rule rule,
                           final RuleInspectorCache cache ) {
         this.rule = rule;
@@ -95,6 +98,23 @@ public class RuleInspector
                 updateBRLConditionInspectors( all );
             }
         } );
+
+        rule.getConditions()
+            .where( Condition.value().any() )
+            .listen().all( new AllListener<Condition>() {
+            @Override
+            public void onAllChanged( final Collection<Condition> all ) {
+                conditionsInspectors = null;
+            }
+        } );
+        rule.getActions()
+            .where( Action.value().any() )
+            .listen().all( new AllListener<Action>() {
+            @Override
+            public void onAllChanged( final Collection<Action> all ) {
+                actionsInspectors = null;
+            }
+        } );
     }
 
     private void updateBRLConditionInspectors( final Collection<Condition> conditions ) {
@@ -111,20 +131,27 @@ public class RuleInspector
         }
     }
 
-    private InspectorList<ConditionsInspector> getConditionsInspectors() {
-        final InspectorList<ConditionsInspector> conditionsInspectors = new InspectorList<>();
+    /**
+     * The lists are built on first use and kept until a condition or an action of the rule changes.
+     */
+    InspectorList<ConditionsInspector> getConditionsInspectors() {
+        if ( conditionsInspectors == null ) {
+            conditionsInspectors = new InspectorList<>();
 
-        for ( final PatternInspector patternInspector : patternInspectorList ) {
-            conditionsInspectors.add( patternInspector.getConditionsInspector() );
+            for ( final PatternInspector patternInspector : patternInspectorList ) {
+                conditionsInspectors.add( patternInspector.getConditionsInspector() );
+            }
         }
 
         return conditionsInspectors;
     }
 
-    private InspectorList<ActionsInspector> getActionsInspectors() {
-        final InspectorList<ActionsInspector> actionsInspectors = new InspectorList<>();
-        for ( final PatternInspector patternInspector : patternInspectorList ) {
-            actionsInspectors.add( patternInspector.getActionsInspector() );
+    InspectorList<ActionsInspector> getActionsInspectors() {
+        if ( actionsInspectors == null ) {
+            actionsInspectors = new InspectorList<>();
+            for ( final PatternInspector patternInspector : patternInspectorList ) {
+                actionsInspectors.add( patternInspector.getActionsInspector() );
+            }
         }
         return actionsInspectors;
     }
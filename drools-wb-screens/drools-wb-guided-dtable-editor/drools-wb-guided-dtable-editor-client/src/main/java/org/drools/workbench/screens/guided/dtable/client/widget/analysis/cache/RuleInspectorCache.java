@@ -22,7 +22,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.drools.workbench.models.guided.dtable.shared.model.ActionCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.UpdateHandler;
@@ -32,13 +34,11 @@ import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.C
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.ColumnBuilder;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Condition;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Field;
-import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Fields;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Index;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.IndexBuilder;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Pattern;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Rule;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.RuleBuilder;
-import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.matchers.UUIDMatcher;
-import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnUtilities;
 import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 
@@ -50,7 +50,7 @@ public class RuleInspectorCache {
     private final Map<Rule, RuleInspector> ruleInspectors = new HashMap<>();
 
     private final Index           index;
-    private final ColumnUtilities utils;
+    private final ColumnTypeCache utils;
     private final UpdateManager   updateManager;
     private final GuidedDecisionTable52 model;
 
@@ -58,7 +58,7 @@ public class RuleInspectorCache {
                                final GuidedDecisionTable52 model,
                                final UpdateHandler updateHandler ) {
         this.model = model;
-        utils = new ColumnUtilities( model,
+        utils = new ColumnTypeCache( model,
                                      oracle );
         index = new IndexBuilder( model,
                                   utils ).build();
@@ -69,20 +69,39 @@ public class RuleInspectorCache {
         reset();
     }
 
-    public void newColumn( final int columnIndex ) {
+    /**
+     * Adds the cells of a new column to the index. Only the RuleInspectors of rows that get a value, a new pattern
+     * or a new field from the column are replaced; an empty cell of a known field adds no restriction, so like in
+     * deleteColumns the other rows keep their RuleInspectors and checks. A new field has to be seen by the
+     * RuleInspector, as PatternInspectors only inspect the fields their pattern had when they were made.
+     * @return Replaced RuleInspectors mapped to the RuleInspectors replacing them.
+     */
+    public Map<RuleInspector, RuleInspector> newColumn( final int columnIndex ) {
 
-        index.columns.add( new ColumnBuilder( model,
-                                              model.getExpandedColumns().get( columnIndex ) ).build() );
+        utils.clear();
+
+        final BaseColumn baseColumn = model.getExpandedColumns().get( columnIndex );
+
+        final Column column = new ColumnBuilder( model,
+                                                 baseColumn ).build();
+        index.columns.add( column );
+
+        if ( !isAnalysable( baseColumn ) ) {
+            return new HashMap<>();
+        }
+
+        final List<Rule> rules = new ArrayList<>();
 
         int rowIndex = 0;
 
         for ( final List<DTCellValue52> row : model.getData() ) {
-            final BaseColumn baseColumn = model.getExpandedColumns().get( columnIndex );
 
             final Rule rule = index.rules
                     .where( HasIndex.index().is( rowIndex ) )
                     .select().first();
 
+            final int patternAndFieldCount = countPatternsAndFields( rule );
+
             new CellBuilder( index,
                              model,
                              columnIndex,
@@ -90,42 +109,88 @@ public class RuleInspectorCache {
                              baseColumn ).build( rule,
                                                  row );
 
+            if ( patternAndFieldCount != countPatternsAndFields( rule )
+                    || hasValue( rule,
+                                 column ) ) {
+                rules.add( rule );
+            }
+
             rowIndex++;
         }
 
-        reset();
+        return replace( rules );
     }
 
-    public void deleteColumns( final int firstColumnIndex,
-                               final int numberOfColumns ) {
-
-        final Collection<Column> all = index.columns
-                .where( HasIndex.index().is( firstColumnIndex ) )
-                .select().all();
+    private int countPatternsAndFields( final Rule rule ) {
+        final Collection<Pattern> patterns = rule.getPatterns()
+                                                 .where( Pattern.uuid().any() )
+                                                 .select().all();
+        int count = patterns.size();
+        for ( final Pattern pattern : patterns ) {
+            count += pattern.getFields()
+                            .where( Field.uuid().any() )
+                            .select().all().size();
+        }
+        return count;
+    }
 
-        final Fields.FieldSelector fieldSelector =
-                index.rules
-                        .where( UUIDMatcher.uuid().any() )
-                        .select().patterns()
-                        .where( UUIDMatcher.uuid().any() )
-                        .select().fields()
-                        .where( UUIDMatcher.uuid().any() )
-                        .select();
+    private boolean hasValue( final Rule rule,
+                              final Column column ) {
+        for ( final Action action : rule.getActions()
+                                        .where( Action.columnUUID().is( column.getUuidKey() ) )
+                                        .select().all() ) {
+            if ( !action.getValues().isEmpty() ) {
+                return true;
+            }
+        }
+        for ( final Condition condition : rule.getConditions()
+                                              .where( Condition.columnUUID().is( column.getUuidKey() ) )
+                                              .select().all() ) {
+            if ( !condition.getValues().isEmpty() ) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    /**
+     * Removes the columns and their conditions and actions from the index. Only the RuleInspectors of rows that had
+     * a condition or an action in the columns are replaced.
+     * @return Replaced RuleInspectors mapped to the RuleInspectors replacing them.
+     */
+    public Map<RuleInspector, RuleInspector> deleteColumns( final int firstColumnIndex,
+                                                            final int numberOfColumns ) {
+        utils.clear();
+
+        final List<Column> columns = new ArrayList<>();
+        for ( int columnIndex = firstColumnIndex; columnIndex < firstColumnIndex + numberOfColumns; columnIndex++ ) {
+            columns.addAll( index.columns
+                                    .where( HasIndex.index().is( columnIndex ) )
+                                    .select().all() );
+        }
 
+        final List<Rule> rules = new ArrayList<>();
         final ArrayList<Action> actions = new ArrayList<Action>();
         final ArrayList<Condition> conditions = new ArrayList<Condition>();
 
-        for ( final Field field : fieldSelector.all() ) {
-            for ( final Column column : all ) {
-                final Collection<Action> all1 = field.getActions()
-                                                     .where( Action.columnUUID().is( column.getUuidKey() ) )
-                                                     .select().all();
-                final Collection<Condition> all2 = field.getConditions()
-                                                        .where( Condition.columnUUID().is( column.getUuidKey() ) )
-                                                        .select().all();
-                actions.addAll( all1 );
-                conditions.addAll( all2 );
+        for ( final Rule rule : index.rules.where( Rule.uuid().any() ).select().all() ) {
+            boolean hasColumn = false;
+
+            for ( final Column column : columns ) {
+                final Collection<Action> ruleActions = rule.getActions()
+                                                           .where( Action.columnUUID().is( column.getUuidKey() ) )
+                                                           .select().all();
+                final Collection<Condition> ruleConditions = rule.getConditions()
+                                                                 .where( Condition.columnUUID().is( column.getUuidKey() ) )
+                                                                 .select().all();
+                actions.addAll( ruleActions );
+                conditions.addAll( ruleConditions );
+
+                hasColumn = hasColumn || !ruleActions.isEmpty() || !ruleConditions.isEmpty();
+            }
+
+            if ( hasColumn ) {
+                rules.add( rule );
             }
         }
 
@@ -137,11 +202,34 @@ public class RuleInspectorCache {
             condition.getUuidKey().retract();
         }
 
-        for ( final Column column : all ) {
+        for ( final Column column : columns ) {
             column.getUuidKey().retract();
         }
 
-        reset();
+        return replace( rules );
+    }
+
+    private boolean isAnalysable( final BaseColumn baseColumn ) {
+        return baseColumn instanceof ConditionCol52
+                || baseColumn instanceof ActionCol52;
+    }
+
+    private Map<RuleInspector, RuleInspector> replace( final Collection<Rule> rules ) {
+        final Map<RuleInspector, RuleInspector> replaced = new HashMap<>();
+
+        for ( final Rule rule : rules ) {
+            final RuleInspector oldRuleInspector = ruleInspectors.get( rule );
+            final RuleInspector ruleInspector = new RuleInspector( rule,
+                                                                   this );
+            add( ruleInspector );
+
+            if ( oldRuleInspector != null ) {
+                replaced.put( oldRuleInspector,
+                              ruleInspector );
+            }
+        }
+
+        return replaced;
     }
 
     public void reset() {
@@ -169,6 +257,8 @@ public class RuleInspectorCache {
 
     public void updateRuleInspectors( final List<Coordinate> coordinates,
                                       final GuidedDecisionTable52 model ) {
+        utils.clear();
+
         updateManager.update( coordinates );
     }
 
@@ -191,6 +281,8 @@ public class RuleInspectorCache {
     public RuleInspector addRow( final int index,
                                 final List<DTCellValue52> row ) {
 
+        utils.clear();
+
         final Rule rule = new RuleBuilder( this.index,
                                            model,
                                            index,
@@ -16,7 +16,9 @@
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
@@ -25,11 +27,11 @@ import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.A
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.ActionBuilder;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Column;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Condition;
-import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Fields;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.FieldAction;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.FieldCondition;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Index;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.Rule;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.keys.Values;
-import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.matchers.UUIDMatcher;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 
 public class UpdateManager {
@@ -49,44 +51,77 @@ public class UpdateManager {
         this.updateHandler = updateHandler;
     }
 
+    /**
+     * Updates the cells as one batch. Every column and row is looked up from the index once, no matter how
+     * many of the cells share it, and the update handler is notified once after all the cells are done.
+     */
     public void update( final List<Coordinate> coordinates ) {
 
+        final Map<Integer, Column> columns = new HashMap<>();
+        final Map<Integer, Rule> rules = new HashMap<>();
         final List<Coordinate> updatedCoordinates = new ArrayList<>();
 
+        boolean analysableCellsFound = false;
+
         for ( final Coordinate coordinate : coordinates ) {
             if ( coordinate.getCol() != ROW_NUMBER_COLUMN
                     && coordinate.getCol() != DESCRIPTION_COLUMN ) {
 
-                if ( new CellUpdateManager( coordinate ).update() ) {
+                analysableCellsFound = true;
+
+                final Column column = getColumn( columns,
+                                                 coordinate.getCol() );
+                final Rule rule = getRule( rules,
+                                           coordinate.getRow() );
+
+                if ( column != null
+                        && rule != null
+                        && new CellUpdateManager( coordinate,
+                                                  column,
+                                                  rule ).update() ) {
                     updatedCoordinates.add( coordinate );
                 }
-
-                updateHandler.updateCoordinates( updatedCoordinates );
             }
         }
+
+        if ( analysableCellsFound ) {
+            updateHandler.updateCoordinates( updatedCoordinates );
+        }
     }
 
-    private class CellUpdateManager {
+    private Column getColumn( final Map<Integer, Column> columns,
+                              final int columnIndex ) {
+        if ( !columns.containsKey( columnIndex ) ) {
+            columns.put( columnIndex,
+                         index.columns
+                                 .where( Column.index().is( columnIndex ) )
+                                 .select().first() );
+        }
+        return columns.get( columnIndex );
+    }
 
-        private final Coordinate           coordinate;
-        private final Column               column;
-        private final Fields.FieldSelector select;
-        private final Values values;
+    private Rule getRule( final Map<Integer, Rule> rules,
+                          final int rowIndex ) {
+        if ( !rules.containsKey( rowIndex ) ) {
+            rules.put( rowIndex,
+                       index.rules
+                               .where( Rule.index().is( rowIndex ) )
+                               .select().first() );
+        }
+        return rules.get( rowIndex );
+    }
 
-        public CellUpdateManager( final Coordinate coordinate ) {
-            this.coordinate = coordinate;
+    private class CellUpdateManager {
 
-            column = index.columns
-                    .where( Column.index().is( coordinate.getCol() ) )
-                    .select().first();
+        private final Column column;
+        private final Rule   rule;
+        private final Values values;
 
-            select = index.rules
-                    .where( Rule.index().is( coordinate.getRow() ) )
-                    .select().patterns()
-                    .where( UUIDMatcher.uuid().any() )
-                    .select().fields()
-                    .where( UUIDMatcher.uuid().any() )
-                    .select();
+        public CellUpdateManager( final Coordinate coordinate,
+                                  final Column column,
+                                  final Rule rule ) {
+            this.column = column;
+            this.rule = rule;
 
             values = getValue( model.getData().get( coordinate.getRow() ).get( coordinate.getCol() ) );
         }
@@ -104,11 +139,11 @@ public class UpdateManager {
         }
 
         private boolean updateAction() {
-            final Action action = select.actions()
-                                        .where( Action.columnUUID().is( column.getUuidKey() ) )
-                                        .select().first();
+            final Action action = rule.getActions()
+                                      .where( Action.columnUUID().is( column.getUuidKey() ) )
+                                      .select().first();
 
-            if ( action != null ) {
+            if ( action instanceof FieldAction ) {
                 return updateAction( action );
             } else {
                 return false;
@@ -128,11 +163,11 @@ public class UpdateManager {
 
         private boolean updateCondition() {
 
-            final Condition condition = select.conditions()
-                                              .where( Condition.columnUUID().is( column.getUuidKey() ) )
-                                              .select().first();
+            final Condition condition = rule.getConditions()
+                                            .where( Condition.columnUUID().is( column.getUuidKey() ) )
+                                            .select().first();
 
-            if ( condition != null ) {
+            if ( condition instanceof FieldCondition ) {
                 return updateCondition( condition );
             } else {
                 return false;
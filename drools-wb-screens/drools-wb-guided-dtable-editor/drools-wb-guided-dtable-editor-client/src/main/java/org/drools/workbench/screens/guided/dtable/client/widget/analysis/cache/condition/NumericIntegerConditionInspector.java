@@ -22,8 +22,19 @@ import org.drools.workbench.screens.guided.dtable.client.widget.analysis.index.F
 public class NumericIntegerConditionInspector
         extends ComparableConditionInspector<Integer> {
 
+    /**
+     * The inspector is rebuilt when the condition changes, so the value can be unboxed once here and the
+     * comparisons against other integers done on primitives.
+     */
+    private final boolean hasIntValue;
+    private final int     intValue;
+
     public NumericIntegerConditionInspector( final FieldCondition<Integer> fieldCondition ) {
         super( fieldCondition );
+
+        final Integer value = getValue();
+        this.hasIntValue = value != null;
+        this.intValue = hasIntValue ? value : 0;
     }
 
     @Override
@@ -50,4 +61,48 @@ public class NumericIntegerConditionInspector
         return super.subsumes( other );
     }
 
+    @Override
+    protected boolean valueIsGreaterThanOrEqualTo( final Comparable<Integer> otherValue ) {
+        if ( hasIntValue && otherValue instanceof Integer ) {
+            return ( Integer ) otherValue >= intValue;
+        } else {
+            return super.valueIsGreaterThanOrEqualTo( otherValue );
+        }
+    }
+
+    @Override
+    protected boolean valueIsLessThanOrEqualTo( final Comparable<Integer> otherValue ) {
+        if ( hasIntValue && otherValue instanceof Integer ) {
+            return ( Integer ) otherValue <= intValue;
+        } else {
+            return super.valueIsLessThanOrEqualTo( otherValue );
+        }
+    }
+
+    @Override
+    protected boolean valueIsGreaterThan( final Comparable<Integer> otherValue ) {
+        if ( hasIntValue && otherValue instanceof Integer ) {
+            return ( Integer ) otherValue > intValue;
+        } else {
+            return super.valueIsGreaterThan( otherValue );
+        }
+    }
+
+    @Override
+    protected boolean valueIsLessThan( final Comparable<Integer> otherValue ) {
+        if ( hasIntValue && otherValue instanceof Integer ) {
+            return ( Integer ) otherValue < intValue;
+        } else {
+            return super.valueIsLessThan( otherValue );
+        }
+    }
+
+    @Override
+    protected boolean valueIsEqualTo( final Comparable<Integer> otherValue ) {
+        if ( hasIntValue && otherValue instanceof Integer ) {
+            return ( Integer ) otherValue == intValue;
+        } else {
+            return super.valueIsEqualTo( otherValue );
+        }
+    }
 }
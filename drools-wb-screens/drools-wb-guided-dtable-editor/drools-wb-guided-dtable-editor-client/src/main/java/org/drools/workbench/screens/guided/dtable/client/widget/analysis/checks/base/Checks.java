@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,6 +31,7 @@ import com.google.gwt.core.client.Scheduler;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.CancellableRepeatingCommand;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.Status;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.UpdateHandler;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.OverlapIndex;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.RuleInspector;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.DetectConflictingRowsCheck;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.DetectDeficientRowsCheck;
@@ -40,6 +42,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.DetectRedundantActionCheck;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.DetectRedundantConditionsCheck;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.DetectRedundantRowsCheck;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.reporting.Issue;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.uberfire.mvp.Command;
 import org.uberfire.mvp.ParameterizedCommand;
@@ -47,16 +50,22 @@ import org.uberfire.mvp.ParameterizedCommand;
 public class Checks
         implements UpdateHandler {
 
-    //RowInspector = a row's inspector; Set<Check> = Checks for the row
-    private final Map<RuleInspector, Set<Check>> allChecks = new HashMap<RuleInspector, Set<Check>>();
+    //RowInspector = a row's inspector; RowChecks = Checks for the row
+    private final Map<RuleInspector, RowChecks> allChecks = new HashMap<RuleInspector, RowChecks>();
 
-    //RowInspector = a row's inspector; Set<Check> = Checks for the row
-    private final Set<Check> rechecks = new HashSet<Check>();
+    //Checks to run in the next analysis, in the order they were queued
+    private final Set<Check> rechecks = new LinkedHashSet<Check>();
 
-    //RowInspector = a row's inspector; Map<RowInspector, List<Set<Check>>> = RowInspectors referencing the key together with their Checks
-    private final Map<RuleInspector, Map<RuleInspector, List<Check>>> reciprocalRowInspectors = new HashMap<RuleInspector, Map<RuleInspector, List<Check>>>();
+    //Timings and counts written to the log, when FINE logging is enabled for ChecksStatistics
+    private final ChecksStatistics statistics = new ChecksStatistics();
 
-    private CancellableRepeatingCommand activeAnalysis;
+    //Issues of the checks, updated for the checks that ran since the last report
+    private final IssueStore issueStore = new IssueStore();
+
+    //Rows that can overlap with each other. Pair checks are only created for these.
+    private OverlapIndex overlapIndex;
+
+    private ChecksRepeatingCommand activeAnalysis;
 
     /**
      * Run analysis with feedback
@@ -76,16 +85,41 @@ public class Checks
             }
         }
 
-        doRun( new ChecksRepeatingCommand( rechecks,
-                                           onStatus,
-                                           onCompletion ) );
+        activeAnalysis = makeChecksRepeatingCommand( onStatus,
+                                                     onCompletion );
         rechecks.clear();
+
+        doRun( activeAnalysis );
+    }
+
+    private ChecksRepeatingCommand makeChecksRepeatingCommand( final ParameterizedCommand<Status> onStatus,
+                                                               final Command onCompletion ) {
+        if ( statistics.isEnabled() ) {
+            statistics.started( rechecks.size(),
+                                countLiveChecks() );
+            return new ChecksRepeatingCommand( rechecks,
+                                               onStatus,
+                                               onCompletion,
+                                               ChecksRepeatingCommand.DEFAULT_TIME_BUDGET,
+                                               statistics );
+        } else {
+            return new ChecksRepeatingCommand( rechecks,
+                                               onStatus,
+                                               onCompletion );
+        }
+    }
+
+    private int countLiveChecks() {
+        int count = 0;
+        for ( final RowChecks rowChecks : allChecks.values() ) {
+            count += rowChecks.size();
+        }
+        return count;
     }
 
     //Override for tests where we do not want to perform checks using a Scheduled RepeatingCommand
     protected void doRun( final CancellableRepeatingCommand command ) {
-        activeAnalysis = command;
-        Scheduler.get().scheduleIncremental( activeAnalysis );
+        Scheduler.get().scheduleIncremental( command );
     }
 
     @Override
@@ -99,15 +133,35 @@ public class Checks
             rowNumbers.add( coordinate.getRow() );
         }
 
+        final List<RuleInspector> updatedRuleInspectors = new ArrayList<>();
         for ( final RuleInspector ruleInspector : allChecks.keySet() ) {
             if ( rowNumbers.contains( ruleInspector.getRowIndex() ) ) {
-                final Set<Check> checks = allChecks.get( ruleInspector );
-                rechecks.addAll( checks );
+                updatedRuleInspectors.add( ruleInspector );
+            }
+        }
 
-                for ( final Check check : checks ) {
-                    if ( check instanceof PairCheck ) {
-                        rechecks.addAll( allChecks.get( (( PairCheck ) check).getOther() ) );
-                    }
+        if ( updatedRuleInspectors.isEmpty() ) {
+            return;
+        }
+
+        //All are removed before any is added again, so the index is only rebuilt once for the new values
+        for ( final RuleInspector ruleInspector : updatedRuleInspectors ) {
+            removeChecks( ruleInspector );
+        }
+        for ( final RuleInspector ruleInspector : updatedRuleInspectors ) {
+            add( ruleInspector );
+        }
+
+        recheckOneToManyChecks();
+    }
+
+    //Checks comparing a row against all the other rows need to be rerun for every row
+    private void recheckOneToManyChecks() {
+        for ( final RowChecks rowChecks : allChecks.values() ) {
+            for ( final Check check : rowChecks.all() ) {
+                if ( check instanceof OneToManyCheck ) {
+                    rechecks.add( check );
+                    issueStore.changed( check );
                 }
             }
         }
@@ -119,12 +173,46 @@ public class Checks
         cancelExistingAnalysis();
 
         //Remove the oldRowInspector and add the newRowInspector
-        remove( oldRuleInspector );
+        removeChecks( oldRuleInspector );
         add( newRuleInspector );
     }
 
+    /**
+     * Replaces the checks of RuleInspectors that were rebuilt, for example after a column was added or deleted.
+     * @param replacedRuleInspectors Replaced RuleInspectors mapped to the RuleInspectors replacing them
+     */
+    public void update( final Map<RuleInspector, RuleInspector> replacedRuleInspectors ) {
+        if ( replacedRuleInspectors.isEmpty() ) {
+            return;
+        }
+
+        //Ensure active analysis is cancelled
+        cancelExistingAnalysis();
+
+        for ( final RuleInspector oldRuleInspector : replacedRuleInspectors.keySet() ) {
+            removeChecks( oldRuleInspector );
+        }
+        for ( final RuleInspector newRuleInspector : replacedRuleInspectors.values() ) {
+            add( newRuleInspector );
+        }
+
+        recheckOneToManyChecks();
+    }
+
     public Collection<Check> get( final RuleInspector ruleInspector ) {
-        return allChecks.get( ruleInspector );
+        final RowChecks rowChecks = allChecks.get( ruleInspector );
+        return rowChecks == null ? null : rowChecks.all();
+    }
+
+    /**
+     * @return Issues found by the checks. Only the checks that ran since the previous call are asked for their issue.
+     */
+    public Set<Issue> getIssues() {
+        final Set<Check> waiting = new HashSet<Check>( rechecks );
+        if ( activeAnalysis != null ) {
+            waiting.addAll( activeAnalysis.getPendingChecks() );
+        }
+        return issueStore.getIssues( waiting );
     }
 
     public boolean isEmpty() {
@@ -137,44 +225,48 @@ public class Checks
 
         //Add new checks
         addSingleRowChecks( ruleInspector );
-        addPairRowChecks( ruleInspector );
-
-        //Ensure referenced RowInspectors have checks created referencing the new RowInspector, if applicable
-        for ( final Check check : get( ruleInspector ) ) {
-            if ( check instanceof PairCheck ) {
-                final RuleInspector otherRuleInspector = (( PairCheck ) check).getOther();
-                final List<Check> checks = makePairRowChecks( otherRuleInspector,
-                                                              ruleInspector );
-                assertChecks( otherRuleInspector,
-                              checks );
-
-                //Store reciprocal references to speed-up removal of RowInspectors
-                final Map<RuleInspector, List<Check>> reciprocalRowInspectors = getRuleInspectorListMap( ruleInspector );
-                List<Check> reciprocalChecks = reciprocalRowInspectors.get( otherRuleInspector );
-                if ( reciprocalChecks == null ) {
-                    reciprocalChecks = new ArrayList<>();
-                    reciprocalRowInspectors.put( otherRuleInspector,
-                                                 reciprocalChecks );
-                }
-                reciprocalChecks.addAll( checks );
-            }
+
+        for ( final RuleInspector other : getCandidates( ruleInspector ) ) {
+            addPairRowChecks( ruleInspector,
+                              other );
+
+            //Ensure referenced RowInspectors have checks created referencing the new RowInspector, if applicable
+            addPairRowChecks( other,
+                              ruleInspector );
         }
     }
 
-    private Map<RuleInspector, List<Check>> getRuleInspectorListMap( final RuleInspector ruleInspector ) {
-        Map<RuleInspector, List<Check>> reciprocalRowInspectors = this.reciprocalRowInspectors.get( ruleInspector );
-        if ( reciprocalRowInspectors == null ) {
-            reciprocalRowInspectors = new HashMap<>();
-            this.reciprocalRowInspectors.put( ruleInspector,
-                                              reciprocalRowInspectors );
+    /**
+     * Adds the checks of a row inserted into the table. The rows after it moved down.
+     */
+    public void addRow( final RuleInspector ruleInspector ) {
+        add( ruleInspector );
+
+        //The new row has no issues yet, so only the rows after it are marked
+        issueStore.rowsMoved( ruleInspector.getRowIndex() );
+    }
+
+    private RowChecks getRowChecks( final RuleInspector ruleInspector ) {
+        RowChecks rowChecks = allChecks.get( ruleInspector );
+        if ( rowChecks == null ) {
+            rowChecks = new RowChecks();
+            allChecks.put( ruleInspector,
+                           rowChecks );
         }
-        return reciprocalRowInspectors;
+        return rowChecks;
     }
 
     private void addSingleRowChecks( final RuleInspector ruleInspector ) {
         final List<Check> checks = makeSingleRowChecks( ruleInspector );
-        assertChecks( ruleInspector,
-                      checks );
+        final List<Check> replacedChecks = getRowChecks( ruleInspector ).setSingleChecks( checks );
+
+        //The row was added again, when the whole table is analysed again
+        rechecks.removeAll( replacedChecks );
+        for ( final Check replacedCheck : replacedChecks ) {
+            issueStore.remove( replacedCheck );
+        }
+
+        assertChecks( checks );
     }
 
     protected List<Check> makeSingleRowChecks( final RuleInspector ruleInspector ) {
@@ -189,17 +281,38 @@ public class Checks
         return checkList;
     }
 
-    private void addPairRowChecks( final RuleInspector ruleInspector ) {
-        for ( final RuleInspector other : ruleInspector.getCache().all() ) {
-            if ( !ruleInspector.equals( other ) ) {
-                final List<Check> checks = makePairRowChecks( ruleInspector,
-                                                              other );
-                assertChecks( ruleInspector,
-                              checks );
-            }
+    private void addPairRowChecks( final RuleInspector ruleInspector,
+                                   final RuleInspector other ) {
+        final RowChecks rowChecks = getRowChecks( ruleInspector );
+
+        //The pair was already created from the other row, while the table was being loaded, or the
+        //whole table is analysed again. The pair is run again, its checks are not made again.
+        if ( rowChecks.hasPairChecks( other ) ) {
+            requeueChecks( rowChecks.getPairChecks( other ) );
+            return;
+        }
+
+        final List<Check> checks = makePairRowChecks( ruleInspector,
+                                                      other );
+        if ( !checks.isEmpty() ) {
+            rowChecks.setPairChecks( other,
+                                     checks );
+            assertChecks( checks );
         }
     }
 
+    //Override for tests comparing the checks made with and without the OverlapIndex
+    protected Collection<RuleInspector> getCandidates( final RuleInspector ruleInspector ) {
+        return getOverlapIndex( ruleInspector ).getCandidates( ruleInspector );
+    }
+
+    private OverlapIndex getOverlapIndex( final RuleInspector ruleInspector ) {
+        if ( overlapIndex == null || !overlapIndex.contains( ruleInspector ) ) {
+            overlapIndex = new OverlapIndex( ruleInspector.getCache().all() );
+        }
+        return overlapIndex;
+    }
+
     protected List<Check> makePairRowChecks( final RuleInspector ruleInspector,
                                              final RuleInspector other ) {
         final ArrayList<Check> checkList = new ArrayList<Check>();
@@ -212,44 +325,74 @@ public class Checks
         return checkList;
     }
 
-    private void assertChecks( final RuleInspector ruleInspector,
-                               final List<Check> checks ) {
-        final Set<Check> existingSetChecks = allChecks.get( ruleInspector );
-        if ( existingSetChecks == null ) {
-            allChecks.put( ruleInspector,
-                     new HashSet<Check>( checks ) );
-        } else {
-            existingSetChecks.addAll( checks );
+    private void assertChecks( final List<Check> checks ) {
+        rechecks.addAll( checks );
+        statistics.created( checks.size() );
+        for ( final Check check : checks ) {
+            issueStore.changed( check );
         }
+    }
 
+    private void requeueChecks( final List<Check> checks ) {
         rechecks.addAll( checks );
+        for ( final Check check : checks ) {
+            issueStore.changed( check );
+        }
     }
 
+    /**
+     * Removes the checks of a row deleted from the table. The rows after it moved up.
+     * @return The removed checks
+     */
     public Collection<Check> remove( final RuleInspector removedRuleInspector ) {
+        final Collection<Check> removedChecks = removeChecks( removedRuleInspector );
+
+        //The deleted row keeps its index, which the row after it has now
+        issueStore.rowsMoved( removedRuleInspector.getRowIndex() );
+
+        return removedChecks;
+    }
+
+    private Collection<Check> removeChecks( final RuleInspector removedRuleInspector ) {
         //Ensure active analysis is cancelled
         cancelExistingAnalysis();
 
-        //Remove all Checks referencing the removed RowInspector
+        //The removed RowInspector can no longer be a candidate for pair checks
+        overlapIndex = null;
+
+        //Remove all Checks referencing the removed RowInspector, and the RowInspector itself
         final Set<Check> removedChecks = new HashSet<Check>();
-        for ( Map.Entry<RuleInspector, List<Check>> reciprocalRowInspectors : this.reciprocalRowInspectors.remove( removedRuleInspector ).entrySet() ) {
-            final RuleInspector reciprocalRuleInspector = reciprocalRowInspectors.getKey();
-            final List<Check> reciprocalChecks = reciprocalRowInspectors.getValue();
-            removedChecks.addAll( reciprocalChecks );
-            if ( allChecks.containsKey( reciprocalRuleInspector ) ) {
-                allChecks.get( reciprocalRuleInspector ).removeAll( reciprocalChecks );
+        final RowChecks rowChecks = allChecks.remove( removedRuleInspector );
+        if ( rowChecks != null ) {
+            for ( final RuleInspector other : rowChecks.getOthers() ) {
+                final RowChecks otherRowChecks = allChecks.get( other );
+                if ( otherRowChecks != null ) {
+                    final List<Check> reciprocalChecks = otherRowChecks.removePairChecks( removedRuleInspector );
+                    if ( reciprocalChecks != null ) {
+                        removedChecks.addAll( reciprocalChecks );
+                    }
+                }
             }
+            removedChecks.addAll( rowChecks.all() );
         }
 
-        //Remove the RowInspector itself
-        removedChecks.addAll( allChecks.get( removedRuleInspector ) );
-        allChecks.remove( removedRuleInspector );
+        //Checks of the removed RowInspector are not worth running
+        rechecks.removeAll( removedChecks );
+        for ( final Check removedCheck : removedChecks ) {
+            issueStore.remove( removedCheck );
+        }
 
         return removedChecks;
     }
 
+    /**
+     * Cancels the active analysis. The results of the checks it already ran are kept and the checks it did
+     * not reach are queued for the next analysis, so that one continues where this one stopped.
+     */
     public void cancelExistingAnalysis() {
         if ( activeAnalysis != null ) {
             activeAnalysis.cancel();
+            rechecks.addAll( activeAnalysis.getPendingChecks() );
             activeAnalysis = null;
         }
     }
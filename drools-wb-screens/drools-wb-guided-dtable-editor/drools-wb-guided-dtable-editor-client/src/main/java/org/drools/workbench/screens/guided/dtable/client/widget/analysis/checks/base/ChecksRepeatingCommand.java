@@ -17,25 +17,34 @@
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
+import com.google.gwt.core.client.GWT;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.CancellableRepeatingCommand;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.Status;
 import org.uberfire.mvp.Command;
 import org.uberfire.mvp.ParameterizedCommand;
 
 /**
- * This class handles processing the analysis itself. It supports "batched" processing
- * of different "chunks". State is a snapshot of the Checks at the time the RepeatingCommand
- * was instantiated.
+ * Runs the checks in ticks of the incremental scheduler. Each tick runs checks until the time budget is used.
+ * The clock is read after every block of checks and the block size adapts to the observed cost of a check.
  */
 public class ChecksRepeatingCommand
         implements CancellableRepeatingCommand {
 
-    private static final int BLOCK_SIZE = 10;
+    public static final double DEFAULT_TIME_BUDGET = 8;
+
+    //How many times the clock is read per tick, at the observed cost of a check
+    private static final int BLOCKS_PER_TICK = 4;
+
+    private final double           timeBudget;
+    private final ChecksStatistics statistics;
 
     private boolean isCancelled       = false;
     private int     currentStartIndex = 0;
+    private int     blockSize         = 1;
+    private double  averageCheckTime  = 0;
 
     private ArrayList<Check> checksToRun = new ArrayList<Check>();
 
@@ -45,56 +54,181 @@ public class ChecksRepeatingCommand
     public ChecksRepeatingCommand( final Set<Check> checksToRun,
                                    final ParameterizedCommand<Status> onStatus,
                                    final Command onCompletion ) {
+        this( checksToRun,
+              onStatus,
+              onCompletion,
+              DEFAULT_TIME_BUDGET );
+    }
+
+    /**
+     * @param timeBudget Milliseconds each tick can spend running checks
+     */
+    public ChecksRepeatingCommand( final Set<Check> checksToRun,
+                                   final ParameterizedCommand<Status> onStatus,
+                                   final Command onCompletion,
+                                   final double timeBudget ) {
+        this( checksToRun,
+              onStatus,
+              onCompletion,
+              timeBudget,
+              null );
+    }
+
+    /**
+     * @param statistics Receives the time each check took, null to not time the checks one by one
+     */
+    ChecksRepeatingCommand( final Set<Check> checksToRun,
+                            final ParameterizedCommand<Status> onStatus,
+                            final Command onCompletion,
+                            final double timeBudget,
+                            final ChecksStatistics statistics ) {
         this.checksToRun.addAll( checksToRun );
         this.onStatus = onStatus;
         this.onCompletion = onCompletion;
+        this.timeBudget = timeBudget;
+        this.statistics = statistics;
     }
 
     @Override
     public boolean execute() {
 
-        final int endIndex = Math.min( this.checksToRun.size(),
-                                       currentStartIndex + BLOCK_SIZE );
+        final int startIndex = currentStartIndex;
+        final double start = now();
+        double elapsed = 0;
 
-        informAboutStatus( endIndex );
+        while ( currentStartIndex < checksToRun.size() && elapsed < timeBudget ) {
 
-        for ( int index = this.currentStartIndex; index < endIndex; index++ ) {
-            if ( isCancelled() ) {
-                return false;
-            }
+            final int endIndex = Math.min( this.checksToRun.size(),
+                                           currentStartIndex + blockSize );
+
+            for ( int index = this.currentStartIndex; index < endIndex; index++ ) {
+                if ( isCancelled() ) {
+                    return false;
+                }
 
-            if ( isCancelled() ) {
-                return false;
+                run( checksToRun.get( index ) );
             }
 
-            checksToRun.get( index ).check();
+            currentStartIndex = endIndex;
+            elapsed = now() - start;
         }
 
-        currentStartIndex += BLOCK_SIZE;
+        adapt( currentStartIndex - startIndex,
+               elapsed );
 
-        if ( endIndex > checksToRun.size() - 1 ) {
+        informAboutStatus( startIndex,
+                           elapsed );
+
+        if ( currentStartIndex >= checksToRun.size() ) {
             complete();
             return false;
         }
         return true;
     }
 
-    private void informAboutStatus( final int endIndex ) {
+    private void run( final Check check ) {
+        if ( statistics == null ) {
+            check.check();
+        } else {
+            final double start = now();
+            check.check();
+            statistics.checked( check,
+                                now() - start );
+        }
+    }
+
+    private void adapt( final int checkCount,
+                        final double elapsed ) {
+        if ( checkCount == 0 ) {
+            return;
+        }
+
+        if ( elapsed <= 0 ) {
+            //Faster than the clock can measure
+            blockSize = blockSize * 2;
+            return;
+        }
+
+        final double checkTime = elapsed / checkCount;
+        if ( averageCheckTime == 0 ) {
+            averageCheckTime = checkTime;
+        } else {
+            averageCheckTime = ( averageCheckTime + checkTime ) / 2;
+        }
+
+        blockSize = Math.max( 1,
+                              ( int ) ( timeBudget / BLOCKS_PER_TICK / averageCheckTime ) );
+    }
+
+    private void informAboutStatus( final int startIndex,
+                                    final double elapsed ) {
         if ( onStatus != null ) {
-            onStatus.execute( new Status( currentStartIndex,
-                                          endIndex,
-                                          checksToRun.size() ) );
+            onStatus.execute( new Status( startIndex,
+                                          currentStartIndex,
+                                          checksToRun.size(),
+                                          getChecksPerSecond( currentStartIndex - startIndex,
+                                                              elapsed ) ) );
+        }
+    }
+
+    private int getChecksPerSecond( final int checkCount,
+                                    final double elapsed ) {
+        if ( elapsed > 0 ) {
+            return ( int ) ( checkCount * 1000 / elapsed );
+        } else if ( averageCheckTime > 0 ) {
+            return ( int ) ( 1000 / averageCheckTime );
+        } else {
+            return 0;
+        }
+    }
+
+    //Override for tests where we want to control the time
+    protected double now() {
+        if ( GWT.isScript() ) {
+            return performanceNow();
+        } else {
+            return System.currentTimeMillis();
         }
     }
 
+    //Fractions of a millisecond, Date.getTime() can not time the checks that take less than a millisecond
+    private static native double performanceNow() /*-{
+        var performance = $wnd.performance;
+        if ( performance && performance.now ) {
+            return performance.now();
+        }
+        return new Date().getTime();
+    }-*/;
+
+    /**
+     * @return Checks this command has not run yet. Empty once the command has completed.
+     */
+    public List<Check> getPendingChecks() {
+        return new ArrayList<Check>( checksToRun.subList( Math.min( currentStartIndex,
+                                                                    checksToRun.size() ),
+                                                          checksToRun.size() ) );
+    }
+
+    int getBlockSize() {
+        return blockSize;
+    }
+
     private boolean isCancelled() {
         if ( isCancelled ) {
-            complete();
+            //The statistics are shared with the analysis that replaced this one, which has started by now
+            finish();
         }
         return isCancelled;
     }
 
     private void complete() {
+        if ( statistics != null ) {
+            statistics.completed();
+        }
+        finish();
+    }
+
+    private void finish() {
         if ( onCompletion != null ) {
             onCompletion.execute();
         }
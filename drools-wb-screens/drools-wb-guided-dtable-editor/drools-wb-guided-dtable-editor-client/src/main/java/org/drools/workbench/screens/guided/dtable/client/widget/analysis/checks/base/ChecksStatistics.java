@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Timings and counts of the analysis, written to the log when an analysis completes. Nothing is collected
+ * unless FINE logging is enabled for this class, so the analysis does not pay for it otherwise.
+ */
+class ChecksStatistics {
+
+    private static final Logger LOGGER = Logger.getLogger( ChecksStatistics.class.getName() );
+
+    //Upper bounds of the histogram buckets in milliseconds, the last bucket takes every slower check
+    private static final double[] BUCKETS = {1, 4, 16};
+
+    //Check class name = timings of the checks of that class run in this analysis
+    private final Map<String, Timing> timings = new TreeMap<String, Timing>();
+
+    private int created        = 0;
+    private int rerun          = 0;
+    private int peakLiveChecks = 0;
+
+    boolean isEnabled() {
+        return LOGGER.isLoggable( Level.FINE );
+    }
+
+    void created( final int amount ) {
+        created += amount;
+    }
+
+    /**
+     * @param queued Checks the analysis is going to run, both the created and the ones run again
+     * @param liveChecks Checks kept for the table
+     */
+    void started( final int queued,
+                  final int liveChecks ) {
+        timings.clear();
+        this.rerun = Math.max( 0,
+                               queued - created );
+        this.peakLiveChecks = Math.max( peakLiveChecks,
+                                        liveChecks );
+    }
+
+    void checked( final Check check,
+                  final double time ) {
+        final String type = check.getClass().getName();
+        Timing timing = timings.get( type );
+        if ( timing == null ) {
+            timing = new Timing();
+            timings.put( type,
+                         timing );
+        }
+        timing.add( time );
+    }
+
+    void completed() {
+        if ( isEnabled() ) {
+            LOGGER.fine( toString() );
+        }
+        created = 0;
+    }
+
+    int getCreated() {
+        return created;
+    }
+
+    int getRerun() {
+        return rerun;
+    }
+
+    int getPeakLiveChecks() {
+        return peakLiveChecks;
+    }
+
+    int getCount( final Class<? extends Check> type ) {
+        final Timing timing = timings.get( type.getName() );
+        return timing == null ? 0 : timing.count;
+    }
+
+    int[] getHistogram( final Class<? extends Check> type ) {
+        final Timing timing = timings.get( type.getName() );
+        return timing == null ? new int[BUCKETS.length + 1] : timing.histogram;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder( "Analysis: " );
+        builder.append( created ).append( " checks created, " );
+        builder.append( rerun ).append( " checks run again, " );
+        builder.append( peakLiveChecks ).append( " peak live checks" );
+
+        for ( final Map.Entry<String, Timing> entry : timings.entrySet() ) {
+            final Timing timing = entry.getValue();
+            builder.append( "\n" );
+            builder.append( entry.getKey() );
+            builder.append( ": count " ).append( timing.count );
+            builder.append( ", total " ).append( timing.total ).append( " ms" );
+            builder.append( ", max " ).append( timing.max ).append( " ms" );
+            builder.append( ", histogram" );
+            for ( int i = 0; i < timing.histogram.length; i++ ) {
+                builder.append( i < BUCKETS.length ? " <" + BUCKETS[i] + " ms: " : " slower: " );
+                builder.append( timing.histogram[i] );
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static class Timing {
+
+        private final int[] histogram = new int[BUCKETS.length + 1];
+
+        private int    count = 0;
+        private double total = 0;
+        private double max   = 0;
+
+        private void add( final double time ) {
+            count++;
+            total += time;
+            max = Math.max( max,
+                            time );
+
+            int bucket = 0;
+            while ( bucket < BUCKETS.length && time >= BUCKETS[bucket] ) {
+                bucket++;
+            }
+            histogram[bucket]++;
+        }
+    }
+}
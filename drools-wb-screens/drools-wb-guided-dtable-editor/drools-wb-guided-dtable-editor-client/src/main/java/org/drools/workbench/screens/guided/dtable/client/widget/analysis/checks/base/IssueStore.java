@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.RuleInspector;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.reporting.Issue;
+
+/**
+ * Keeps the issue of every check that has one, so a report does not need to ask every check again.
+ * Only the checks marked as changed are asked, and the checks covering rows that moved when a row was
+ * inserted or deleted. Issues that did not change stay the same instances from one report to the next.
+ */
+class IssueStore {
+
+    //Check = a check with an issue; Issue = the issue of the check when it was last resolved
+    private final Map<Check, Issue> issues = new HashMap<Check, Issue>();
+
+    //RuleInspector = a row; Checks = the checks with an issue covering the row
+    private final Map<RuleInspector, Set<Check>> rows = new HashMap<RuleInspector, Set<Check>>();
+
+    //Checks that were queued to run, or whose rows moved, after their issue was last resolved
+    private final Set<Check> changed = new HashSet<Check>();
+
+    void changed( final Check check ) {
+        changed.add( check );
+    }
+
+    void remove( final Check check ) {
+        changed.remove( check );
+        removeIssue( check );
+    }
+
+    /**
+     * Rows were inserted or deleted, so the issues covering the rows after them report other row numbers.
+     * @param rowIndex Index the first moved row has now
+     */
+    void rowsMoved( final int rowIndex ) {
+        for ( final Map.Entry<RuleInspector, Set<Check>> entry : rows.entrySet() ) {
+            if ( entry.getKey().getRowIndex() >= rowIndex ) {
+                changed.addAll( entry.getValue() );
+            }
+        }
+    }
+
+    /**
+     * @param waiting Checks that are queued but have not run yet. Their issues are resolved once they have run.
+     * @return The current issues
+     */
+    Set<Issue> getIssues( final Set<Check> waiting ) {
+        final Iterator<Check> iterator = changed.iterator();
+        while ( iterator.hasNext() ) {
+            final Check check = iterator.next();
+            if ( !waiting.contains( check ) ) {
+                resolve( check );
+                iterator.remove();
+            }
+        }
+
+        return new HashSet<Issue>( issues.values() );
+    }
+
+    private void resolve( final Check check ) {
+        removeIssue( check );
+        if ( check.hasIssues() ) {
+            issues.put( check,
+                        check.getIssue() );
+            for ( final RuleInspector ruleInspector : getRuleInspectors( check ) ) {
+                Set<Check> checks = rows.get( ruleInspector );
+                if ( checks == null ) {
+                    checks = new HashSet<Check>();
+                    rows.put( ruleInspector,
+                              checks );
+                }
+                checks.add( check );
+            }
+        }
+    }
+
+    private void removeIssue( final Check check ) {
+        if ( issues.remove( check ) == null ) {
+            return;
+        }
+        for ( final RuleInspector ruleInspector : getRuleInspectors( check ) ) {
+            final Set<Check> checks = rows.get( ruleInspector );
+            if ( checks != null ) {
+                checks.remove( check );
+                if ( checks.isEmpty() ) {
+                    rows.remove( ruleInspector );
+                }
+            }
+        }
+    }
+
+    private static RuleInspector[] getRuleInspectors( final Check check ) {
+        if ( check instanceof PairCheck ) {
+            return new RuleInspector[]{
+                    (( PairCheck ) check).getRuleInspector(),
+                    (( PairCheck ) check).getOther()
+            };
+        } else if ( check instanceof SingleCheck ) {
+            return new RuleInspector[]{
+                    (( SingleCheck ) check).getRuleInspector()
+            };
+        } else {
+            return new RuleInspector[0];
+        }
+    }
+}
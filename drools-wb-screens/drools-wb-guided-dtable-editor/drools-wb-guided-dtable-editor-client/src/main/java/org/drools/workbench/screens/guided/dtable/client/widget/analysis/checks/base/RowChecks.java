@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.RuleInspector;
+
+/**
+ * The checks of one row. Pair checks are kept by the row they compare against, so the checks of both
+ * rows of a pair are found from either row without keeping a second set of references.
+ */
+class RowChecks {
+
+    private final List<Check> singleChecks = new ArrayList<Check>();
+
+    //RuleInspector = the other row; List<Check> = pair checks comparing this row against it
+    private final Map<RuleInspector, List<Check>> pairChecks = new HashMap<RuleInspector, List<Check>>();
+
+    /**
+     * @return The single checks replaced, the row is checked again from scratch
+     */
+    List<Check> setSingleChecks( final List<Check> checks ) {
+        final List<Check> replaced = new ArrayList<Check>( singleChecks );
+        singleChecks.clear();
+        singleChecks.addAll( checks );
+        return replaced;
+    }
+
+    void setPairChecks( final RuleInspector other,
+                        final List<Check> checks ) {
+        pairChecks.put( other,
+                        checks );
+    }
+
+    boolean hasPairChecks( final RuleInspector other ) {
+        return pairChecks.containsKey( other );
+    }
+
+    List<Check> getPairChecks( final RuleInspector other ) {
+        return pairChecks.get( other );
+    }
+
+    List<Check> removePairChecks( final RuleInspector other ) {
+        return pairChecks.remove( other );
+    }
+
+    Set<RuleInspector> getOthers() {
+        return pairChecks.keySet();
+    }
+
+    int size() {
+        int size = singleChecks.size();
+        for ( final List<Check> checks : pairChecks.values() ) {
+            size += checks.size();
+        }
+        return size;
+    }
+
+    Collection<Check> all() {
+        final List<Check> all = new ArrayList<Check>( singleChecks );
+        for ( final List<Check> checks : pairChecks.values() ) {
+            all.addAll( checks );
+        }
+        return all;
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis.panel;
 
+import java.util.List;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
@@ -44,6 +45,7 @@ public class AnalysisReportScreen {
 
     private final ListDataProvider<Issue> dataProvider = new ListDataProvider<Issue>();
     private AnalysisReport currentReport;
+    private List<Issue>    currentIssues;
 
     public AnalysisReportScreen() {
     }
@@ -65,15 +67,27 @@ public class AnalysisReportScreen {
     }
 
     public void showReport( final AnalysisReport report ) {
+        final List<Issue> issues = report.getAnalysisData();
+        final boolean unchanged = currentReport != null
+                && report.getPlace() != null
+                && report.getPlace().equals( currentReport.getPlace() )
+                && currentIssues.equals( issues );
+
         currentReport = report;
+        currentIssues = issues;
 
-        if ( !report.getAnalysisData().isEmpty() ) {
+        if ( !issues.isEmpty() ) {
             placeManager.goTo( IDENTIFIER );
         } else {
             placeManager.closePlace( IDENTIFIER );
         }
 
-        dataProvider.setList( report.getAnalysisData() );
+        //The analysis keeps the same Issue instances while they do not change, keep the list and the selection
+        if ( unchanged ) {
+            return;
+        }
+
+        dataProvider.setList( issues );
 
         if ( dataProvider.getList().isEmpty() ) {
             view.clearIssue();
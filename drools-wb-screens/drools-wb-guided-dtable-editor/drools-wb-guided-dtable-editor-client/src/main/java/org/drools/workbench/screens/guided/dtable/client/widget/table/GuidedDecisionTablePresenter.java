@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -89,8 +90,10 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.model.sync
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.Synchronizer;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.themes.GuidedDecisionTableRenderer;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.CellUtilities;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnIndexes;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnUtilities;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.DependentEnumsUtilities;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.EnumLookupsCache;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.drools.workbench.screens.guided.rule.client.util.GWTDateConverter;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -113,7 +116,6 @@ import org.uberfire.client.mvp.UpdatedLockStatusEvent;
 import org.uberfire.ext.widgets.common.client.callbacks.HasBusyIndicatorDefaultErrorCallback;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
-import org.uberfire.ext.wires.core.grids.client.model.GridRow;
 import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridRow;
 import org.uberfire.ext.wires.core.grids.client.widget.dom.HasDOMElementResources;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.GridWidget;
@@ -165,7 +167,9 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
 
     protected CellUtilities cellUtilities;
     protected ColumnUtilities columnUtilities;
+    protected ColumnIndexes columnIndexes;
     protected DependentEnumsUtilities dependentEnumsUtilities;
+    protected EnumLookupsCache enumLookupsCache;
 
     protected DecisionTableAnalyzer decisionTableAnalyzer;
 
@@ -414,11 +418,15 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         this.cellUtilities = new CellUtilities();
         this.columnUtilities = new ColumnUtilities( model,
                                                     oracle );
+        this.columnIndexes = new ColumnIndexes( model,
+                                                uiModel );
 
         //Setup the DropDownManager that requires the Model and UI data to determine drop-down lists
         //for dependent enumerations. This needs to be called before the columns are created.
         this.dependentEnumsUtilities = new DependentEnumsUtilities( model,
-                                                                    oracle );
+                                                                    oracle,
+                                                                    columnIndexes );
+        this.enumLookupsCache = new EnumLookupsCache();
 
         //Setup Factories for new Columns and Cells
         gridWidgetColumnFactory.setConverters( getConverters() );
@@ -433,6 +441,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
                                  uiModel,
                                  cellUtilities,
                                  columnUtilities,
+                                 columnIndexes,
                                  dependentEnumsUtilities,
                                  gridWidgetCellFactory,
                                  gridWidgetColumnFactory,
@@ -450,9 +459,16 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         for ( BaseColumn column : modelColumns ) {
             initialiseColumn( column );
         }
-        for ( List<DTCellValue52> row : model.getData() ) {
-            initialiseRow( modelColumns,
-                           row );
+
+        //Cells are copied one column at a time, so what is needed to convert a column's cells is resolved once
+        final int firstRowIndex = uiModel.getRowCount();
+        for ( int iRow = 0; iRow < model.getData().size(); iRow++ ) {
+            uiModel.appendRow( new BaseGridRow( 24 ) );
+        }
+        for ( int iModelColumn = 0; iModelColumn < modelColumns.size(); iModelColumn++ ) {
+            initialiseColumnCells( iModelColumn,
+                                   modelColumns.get( iModelColumn ),
+                                   firstRowIndex );
         }
     }
 
@@ -729,9 +745,20 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
                                 final String factField,
                                 final DependentEnumsUtilities.Context context,
                                 final Callback<Map<String, String>> callback ) {
+        final Map<String, String> currentValueMap = this.dependentEnumsUtilities.getCurrentValueMap( context );
+
+        //Cells in the same column with the same values in scope have the same fixed enumeration
+        final Map<String, String> cachedDropDownData = enumLookupsCache.get( factType,
+                                                                             factField,
+                                                                             currentValueMap );
+        if ( cachedDropDownData != null ) {
+            callback.callback( cachedDropDownData );
+            return;
+        }
+
         final DropDownData dropDownData = oracle.getEnums( factType,
                                                            factField,
-                                                           this.dependentEnumsUtilities.getCurrentValueMap( context ) );
+                                                           currentValueMap );
         if ( dropDownData == null ) {
             callback.callback( Collections.<String, String>emptyMap() );
             return;
@@ -739,11 +766,16 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
 
         if ( dropDownData.getFixedList() != null ) {
             final Map<String, String> convertedDropDownData = convertDropDownData( dropDownData.getFixedList() );
+            enumLookupsCache.put( factType,
+                                  factField,
+                                  currentValueMap,
+                                  convertedDropDownData );
             callback.callback( convertedDropDownData );
             return;
         }
 
-        //Lookup data from server if the list of enumerations comes from an external query
+        //Lookup data from server if the list of enumerations comes from an external query. The result depends on
+        //data outside the table that can change while it is open, so it is not cached
         if ( dropDownData.getQueryExpression() == null ) {
             callback.callback( Collections.<String, String>emptyMap() );
         }
@@ -1144,32 +1176,39 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         uiModel.appendColumn( gridColumn );
     }
 
-    private void initialiseRow( final List<BaseColumn> columns,
-                                final List<DTCellValue52> row ) {
-        final GridRow uiModelRow = new BaseGridRow( 24 );
-        final int rowIndex = uiModel.getRowCount();
-        uiModel.appendRow( uiModelRow );
+    private void initialiseColumnCells( final int iModelColumn,
+                                        final BaseColumn modelColumn,
+                                        final int firstRowIndex ) {
+        final boolean isRowNumberColumn = modelColumn instanceof RowNumberCol52;
+        DataType.DataTypes dataType = null;
 
-        for ( int iModelColumn = 0; iModelColumn < row.size(); iModelColumn++ ) {
+        final List<List<DTCellValue52>> data = model.getData();
+        for ( int iRow = 0; iRow < data.size(); iRow++ ) {
+            final List<DTCellValue52> row = data.get( iRow );
+            if ( iModelColumn >= row.size() ) {
+                continue;
+            }
+            final int rowIndex = firstRowIndex + iRow;
             final DTCellValue52 modelCell = row.get( iModelColumn );
-            final BaseColumn modelColumn = columns.get( iModelColumn );
 
             // We cannot rely upon the values in the existing data as legacy tables aren't guaranteed to be sorted
-            if ( modelColumn instanceof RowNumberCol52 ) {
-                modelCell.setNumericValue( uiModel.getRowCount() );
+            if ( isRowNumberColumn ) {
+                modelCell.setNumericValue( rowIndex + 1 );
             }
 
             //BaseGridData is sparsely populated; only add values if needed.
             if ( modelCell.hasValue() ) {
+                if ( dataType == null ) {
+                    dataType = columnUtilities.getDataType( modelColumn );
+                }
                 uiModel.setCellInternal( rowIndex,
                                          iModelColumn,
                                          gridWidgetCellFactory.convertCell( modelCell,
-                                                                            modelColumn,
-                                                                            cellUtilities,
-                                                                            columnUtilities ) );
+                                                                            dataType,
+                                                                            cellUtilities ) );
 
                 //Set-up SelectionManager for Row Number column, to select entire row.
-                if ( modelColumn instanceof RowNumberCol52 ) {
+                if ( isRowNumberColumn ) {
                     uiModel.getCell( rowIndex,
                                      iModelColumn ).setSelectionManager( RowSelectionManager.INSTANCE );
                 }
@@ -1201,17 +1240,21 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         int originColumnIndex = Integer.MAX_VALUE;
         final Set<Clipboard.ClipboardData> data = new HashSet<>();
 
-        for ( GridData.SelectedCell sc : selections ) {
+        final int[] selectedColumnIndexes = new int[ selections.size() ];
+        for ( int i = 0; i < selections.size(); i++ ) {
+            final GridData.SelectedCell sc = selections.get( i );
             final int rowIndex = sc.getRowIndex();
             final int columnIndex = findUiColumnIndex( sc.getColumnIndex() );
+            selectedColumnIndexes[ i ] = columnIndex;
             originRowIndex = Math.min( rowIndex,
                                        originRowIndex );
             originColumnIndex = Math.min( columnIndex,
                                           originColumnIndex );
         }
-        for ( GridData.SelectedCell sc : selections ) {
+        for ( int i = 0; i < selections.size(); i++ ) {
+            final GridData.SelectedCell sc = selections.get( i );
             final int rowIndex = sc.getRowIndex();
-            final int columnIndex = findUiColumnIndex( sc.getColumnIndex() );
+            final int columnIndex = selectedColumnIndexes[ i ];
             final DTCellValue52 value = model.getData().get( rowIndex ).get( columnIndex );
             data.add( new DefaultClipboard.ClipboardDataImpl( rowIndex - originRowIndex,
                                                               columnIndex - originColumnIndex,
@@ -1230,35 +1273,48 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         final int currentOriginRowIndex = uiModel.getSelectedCellsOrigin().getRowIndex();
         final int currentOriginColumnIndex = uiModel.getSelectedCellsOrigin().getColumnIndex();
 
+        //Pasted data usually spans few columns, resolve their data-types once rather than for every cell
+        final List<BaseColumn> modelColumns = columnIndexes.getColumns();
+        final Map<Integer, DataType.DataTypes> modelColumnDataTypes = new HashMap<>();
+
         boolean updateSystemControlledValues = false;
-        for ( Clipboard.ClipboardData cd : data ) {
-            final int targetRowIndex = currentOriginRowIndex + cd.getRowIndex();
-            final int targetColumnIndex = currentOriginColumnIndex + cd.getColumnIndex();
-            if ( targetRowIndex < 0 || targetRowIndex > uiModel.getRowCount() - 1 ) {
-                continue;
-            }
-            if ( targetColumnIndex < 0 || targetColumnIndex > uiModel.getColumns().size() - 1 ) {
-                continue;
-            }
-            final DTCellValue52 modelCell = cd.getValue();
-            final BaseColumn modelColumn = model.getExpandedColumns().get( targetColumnIndex );
-            final DataType.DataTypes modelColumnDataType = columnUtilities.getDataType( modelColumn );
-            if ( cd.getValue().getDataType().equals( modelColumnDataType ) ) {
-                if ( modelCell.hasValue() ) {
-                    uiModel.setCell( targetRowIndex,
-                                     targetColumnIndex,
-                                     gridWidgetCellFactory.convertCell( modelCell,
-                                                                        modelColumn,
-                                                                        cellUtilities,
-                                                                        columnUtilities ) );
-                } else {
-                    uiModel.deleteCell( targetRowIndex,
-                                        targetColumnIndex );
+        synchronizer.beginBatch();
+        try {
+            for ( Clipboard.ClipboardData cd : data ) {
+                final int targetRowIndex = currentOriginRowIndex + cd.getRowIndex();
+                final int targetColumnIndex = currentOriginColumnIndex + cd.getColumnIndex();
+                if ( targetRowIndex < 0 || targetRowIndex > uiModel.getRowCount() - 1 ) {
+                    continue;
+                }
+                if ( targetColumnIndex < 0 || targetColumnIndex > uiModel.getColumns().size() - 1 ) {
+                    continue;
+                }
+                final DTCellValue52 modelCell = cd.getValue();
+                final BaseColumn modelColumn = modelColumns.get( targetColumnIndex );
+                DataType.DataTypes modelColumnDataType = modelColumnDataTypes.get( targetColumnIndex );
+                if ( modelColumnDataType == null ) {
+                    modelColumnDataType = columnUtilities.getDataType( modelColumn );
+                    modelColumnDataTypes.put( targetColumnIndex,
+                                              modelColumnDataType );
+                }
+                if ( cd.getValue().getDataType().equals( modelColumnDataType ) ) {
+                    if ( modelCell.hasValue() ) {
+                        uiModel.setCell( targetRowIndex,
+                                         targetColumnIndex,
+                                         gridWidgetCellFactory.convertCell( modelCell,
+                                                                            modelColumnDataType,
+                                                                            cellUtilities ) );
+                    } else {
+                        uiModel.deleteCell( targetRowIndex,
+                                            targetColumnIndex );
+                    }
+                }
+                if ( modelColumn instanceof RowNumberCol52 ) {
+                    updateSystemControlledValues = true;
                 }
             }
-            if ( modelColumn instanceof RowNumberCol52 ) {
-                updateSystemControlledValues = true;
-            }
+        } finally {
+            synchronizer.endBatch();
         }
         if ( updateSystemControlledValues ) {
             synchronizer.updateSystemControlledColumnValues();
@@ -1273,14 +1329,20 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         if ( selections == null || selections.isEmpty() ) {
             return;
         }
-        for ( GridData.SelectedCell sc : selections ) {
-            final int rowIndex = sc.getRowIndex();
-            final int columnIndex = findUiColumnIndex( sc.getColumnIndex() );
-            final BaseColumn column = model.getExpandedColumns().get( columnIndex );
-            if ( !( column instanceof RowNumberCol52 ) ) {
-                uiModel.deleteCell( rowIndex,
-                                    columnIndex );
+        final List<BaseColumn> modelColumns = columnIndexes.getColumns();
+        synchronizer.beginBatch();
+        try {
+            for ( GridData.SelectedCell sc : selections ) {
+                final int rowIndex = sc.getRowIndex();
+                final int columnIndex = findUiColumnIndex( sc.getColumnIndex() );
+                final BaseColumn column = modelColumns.get( columnIndex );
+                if ( !( column instanceof RowNumberCol52 ) ) {
+                    uiModel.deleteCell( rowIndex,
+                                        columnIndex );
+                }
             }
+        } finally {
+            synchronizer.endBatch();
         }
         view.getLayer().draw();
     }
@@ -1292,7 +1354,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         final Set<BaseColumn> columnsToDelete = new HashSet<>();
         for ( int selectedColumnIndex : selectedColumnIndexes ) {
             final int columnIndex = findUiColumnIndex( selectedColumnIndex );
-            final BaseColumn column = model.getExpandedColumns().get( columnIndex );
+            final BaseColumn column = columnIndexes.getColumn( columnIndex );
             if ( !( column instanceof RowNumberCol52 || column instanceof DescriptionCol52 ) ) {
                 columnsToDelete.add( column );
             }
@@ -1319,14 +1381,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
     }
 
     private int findUiColumnIndex( final int modelColumnIndex ) {
-        final List<GridColumn<?>> columns = uiModel.getColumns();
-        for ( int uiColumnIndex = 0; uiColumnIndex < columns.size(); uiColumnIndex++ ) {
-            final GridColumn<?> c = columns.get( uiColumnIndex );
-            if ( c.getIndex() == modelColumnIndex ) {
-                return uiColumnIndex;
-            }
-        }
-        throw new IllegalStateException( "Column was not found!" );
+        return columnIndexes.getUiColumnIndex( modelColumnIndex );
     }
 
     @Override
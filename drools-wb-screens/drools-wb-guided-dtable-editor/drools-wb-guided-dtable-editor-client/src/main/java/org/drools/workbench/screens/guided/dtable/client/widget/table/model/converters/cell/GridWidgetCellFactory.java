@@ -15,6 +15,7 @@
  */
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell;
 
+import org.drools.workbench.models.datamodel.oracle.DataType;
 import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiCell;
@@ -39,4 +40,16 @@ public interface GridWidgetCellFactory {
                                            final CellUtilities cellUtilities,
                                            final ColumnUtilities columnUtilities );
 
+    /**
+     * Instantiate a Cell for use within a GridWidget, when the column's data-type is already known. Converting
+     * every cell of a column this way only resolves the column's data-type once.
+     * @param cell The underlying GuidedDecisionTable52 model cell
+     * @param dataType The data-type of the column for which the cell relates
+     * @param cellUtilities Utilities to convert the cell's value to the column's data-type
+     * @return
+     */
+    GuidedDecisionTableUiCell convertCell( final DTCellValue52 cell,
+                                           final DataType.DataTypes dataType,
+                                           final CellUtilities cellUtilities );
+
 }
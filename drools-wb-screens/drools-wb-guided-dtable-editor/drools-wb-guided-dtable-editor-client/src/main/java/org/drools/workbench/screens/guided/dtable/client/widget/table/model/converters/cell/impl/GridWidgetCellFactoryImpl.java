@@ -40,7 +40,19 @@ public class GridWidgetCellFactoryImpl implements GridWidgetCellFactory {
             return null;
         }
 
-        final DataType.DataTypes dataType = columnUtilities.getDataType( column );
+        return convertCell( cell,
+                            columnUtilities.getDataType( column ),
+                            cellUtilities );
+    }
+
+    @Override
+    public GuidedDecisionTableUiCell convertCell( final DTCellValue52 cell,
+                                                  final DataType.DataTypes dataType,
+                                                  final CellUtilities cellUtilities ) {
+        if ( !cell.hasValue() ) {
+            return null;
+        }
+
         cellUtilities.convertDTCellValueType( dataType,
                                               cell );
 
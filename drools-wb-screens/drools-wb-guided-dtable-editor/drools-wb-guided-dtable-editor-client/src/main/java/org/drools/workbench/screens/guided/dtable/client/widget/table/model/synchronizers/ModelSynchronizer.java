@@ -31,6 +31,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.model.Guid
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.GridWidgetColumnFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.CellUtilities;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnIndexes;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnUtilities;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.DependentEnumsUtilities;
 import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
@@ -53,6 +54,7 @@ public interface ModelSynchronizer {
                      final GuidedDecisionTableUiModel uiModel,
                      final CellUtilities cellUtilities,
                      final ColumnUtilities columnUtilities,
+                     final ColumnIndexes columnIndexes,
                      final DependentEnumsUtilities dependentEnumsUtilities,
                      final GridWidgetCellFactory gridWidgetCellFactory,
                      final GridWidgetColumnFactory gridWidgetColumnFactory,
@@ -61,6 +63,18 @@ public interface ModelSynchronizer {
                      final EventBus eventBus,
                      final GuidedDecisionTablePresenter.Access access );
 
+    /**
+     * Starts a batch of cell edits. The edits made by {@link #setCell(GridData.Range, int, GridCellValue)} and
+     * {@link #deleteCell(GridData.Range, int)} are validated together when {@link #endBatch()} is called,
+     * rather than one at a time.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch of cell edits started by {@link #beginBatch()}, validating all the cells it edited.
+     */
+    void endBatch();
+
     void setCell( final GridData.Range rowRange,
                   final int columnIndex,
                   final GridCellValue<?> value );
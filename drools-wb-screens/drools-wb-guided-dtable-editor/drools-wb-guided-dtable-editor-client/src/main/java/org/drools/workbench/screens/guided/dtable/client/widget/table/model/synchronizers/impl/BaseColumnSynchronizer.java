@@ -19,6 +19,7 @@ package org.drools.workbench.screens.guided.dtable.client.widget.table.model.syn
 import java.util.Arrays;
 import java.util.List;
 
+import org.drools.workbench.models.datamodel.oracle.DataType;
 import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer;
@@ -68,6 +69,7 @@ public abstract class BaseColumnSynchronizer<A extends BaseColumnSynchronizer.Co
         uiModel.insertColumn( columnIndex,
                               uiModelColumn );
 
+        final DataType.DataTypes dataType = columnUtilities.getDataType( modelColumn );
         for ( int rowIndex = 0; rowIndex < model.getData().size(); rowIndex++ ) {
             final DTCellValue52 modelCell = makeModelCellValue( modelColumn );
             final List<DTCellValue52> modelRow = model.getData().get( rowIndex );
@@ -79,9 +81,8 @@ public abstract class BaseColumnSynchronizer<A extends BaseColumnSynchronizer.Co
                 uiModel.setCellInternal( rowIndex,
                                          columnIndex,
                                          gridWidgetCellFactory.convertCell( modelCell,
-                                                                            modelColumn,
-                                                                            cellUtilities,
-                                                                            columnUtilities ) );
+                                                                            dataType,
+                                                                            cellUtilities ) );
             }
         }
 
@@ -97,6 +98,7 @@ public abstract class BaseColumnSynchronizer<A extends BaseColumnSynchronizer.Co
         uiModel.insertColumn( columnIndex,
                               uiModelColumn );
 
+        final DataType.DataTypes dataType = columnUtilities.getDataType( modelColumn );
         for ( int rowIndex = 0; rowIndex < model.getData().size(); rowIndex++ ) {
             final DTCellValue52 modelCell = originalColumnData.get( rowIndex );
             final List<DTCellValue52> modelRow = model.getData().get( rowIndex );
@@ -107,9 +109,8 @@ public abstract class BaseColumnSynchronizer<A extends BaseColumnSynchronizer.Co
                 uiModel.setCellInternal( rowIndex,
                                          columnIndex,
                                          gridWidgetCellFactory.convertCell( modelCell,
-                                                                            modelColumn,
-                                                                            cellUtilities,
-                                                                            columnUtilities ) );
+                                                                            dataType,
+                                                                            cellUtilities ) );
             }
         }
 
@@ -124,6 +125,7 @@ public abstract class BaseColumnSynchronizer<A extends BaseColumnSynchronizer.Co
         uiModel.updateColumn( columnIndex,
                               uiModelColumn );
 
+        final DataType.DataTypes dataType = columnUtilities.getDataType( modelColumn );
         for ( int rowIndex = 0; rowIndex < model.getData().size(); rowIndex++ ) {
             final List<DTCellValue52> modelRow = model.getData().get( rowIndex );
             final DTCellValue52 modelCell = modelRow.get( columnIndex );
@@ -133,9 +135,8 @@ public abstract class BaseColumnSynchronizer<A extends BaseColumnSynchronizer.Co
                 uiModel.setCellInternal( rowIndex,
                                          columnIndex,
                                          gridWidgetCellFactory.convertCell( modelCell,
-                                                                            modelColumn,
-                                                                            cellUtilities,
-                                                                            columnUtilities ) );
+                                                                            dataType,
+                                                                            cellUtilities ) );
             }
         }
 
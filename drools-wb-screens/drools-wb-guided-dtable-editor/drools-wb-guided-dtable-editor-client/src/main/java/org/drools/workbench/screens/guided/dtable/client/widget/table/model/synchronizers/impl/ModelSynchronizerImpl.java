@@ -44,6 +44,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.model.conv
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.Synchronizer;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.CellUtilities;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnIndexes;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnUtilities;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.DependentEnumsUtilities;
 import org.drools.workbench.screens.guided.rule.client.editor.RuleAttributeWidget;
@@ -79,10 +80,14 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
     private GuidedDecisionTableUiModel uiModel;
     private CellUtilities cellUtilities;
     private ColumnUtilities columnUtilities;
+    private ColumnIndexes columnIndexes;
     private DependentEnumsUtilities dependentEnumsUtilities;
     private GridWidgetCellFactory gridWidgetCellFactory;
     private EventBus eventBus;
 
+    //Cells edited since beginBatch(), null when no batch is in progress
+    private List<Coordinate> batchedUpdates;
+
     private final List<Synchronizer<? extends MetaData, ? extends MetaData, ? extends MetaData, ? extends MetaData, ? extends MetaData>> synchronizers = new ArrayList<>();
 
     @Override
@@ -104,6 +109,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                             final GuidedDecisionTableUiModel uiModel,
                             final CellUtilities cellUtilities,
                             final ColumnUtilities columnUtilities,
+                            final ColumnIndexes columnIndexes,
                             final DependentEnumsUtilities dependentEnumsUtilities,
                             final GridWidgetCellFactory gridWidgetCellFactory,
                             final GridWidgetColumnFactory gridWidgetColumnFactory,
@@ -119,6 +125,8 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                                                                  cellUtilities );
         this.columnUtilities = PortablePreconditions.checkNotNull( "columnUtilities",
                                                                    columnUtilities );
+        this.columnIndexes = PortablePreconditions.checkNotNull( "columnIndexes",
+                                                                 columnIndexes );
         this.dependentEnumsUtilities = PortablePreconditions.checkNotNull( "dependentEnumsUtilities",
                                                                            dependentEnumsUtilities );
         this.gridWidgetCellFactory = PortablePreconditions.checkNotNull( "gridWidgetCellFactory",
@@ -140,6 +148,28 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         }
     }
 
+    @Override
+    public void beginBatch() {
+        if ( batchedUpdates != null ) {
+            throw new IllegalStateException( "A batch is already in progress" );
+        }
+        batchedUpdates = new ArrayList<>();
+    }
+
+    @Override
+    public void endBatch() {
+        if ( batchedUpdates == null ) {
+            throw new IllegalStateException( "There is no batch in progress" );
+        }
+        final List<Coordinate> updates = batchedUpdates;
+        batchedUpdates = null;
+
+        //An empty event asks the analysis to check the whole table, so only fire if something was edited
+        if ( !updates.isEmpty() ) {
+            eventBus.fireEvent( new ValidateEvent( updates ) );
+        }
+    }
+
     @Override
     public void setCell( final GridData.Range rowRange,
                          final int columnIndex,
@@ -209,7 +239,8 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
-        eventBus.fireEvent( new AfterColumnInserted( model.getExpandedColumns().indexOf( column ) ) );
+        columnIndexes.invalidate();
+        eventBus.fireEvent( new AfterColumnInserted( columnIndexes.getModelColumnIndex( column ) ) );
     }
 
     @Override
@@ -224,13 +255,14 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
-        eventBus.fireEvent( new AfterColumnInserted( model.getExpandedColumns().indexOf( column ) ) );
+        columnIndexes.invalidate();
+        eventBus.fireEvent( new AfterColumnInserted( columnIndexes.getModelColumnIndex( column ) ) );
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void deleteColumn( final BaseColumn column ) throws MoveColumnVetoException {
-        final int indexOf = model.getExpandedColumns().indexOf( column );
+        final int indexOf = columnIndexes.getModelColumnIndex( column );
         final MetaData metaData = new BaseColumnSynchronizer.ColumnMetaDataImpl( column );
         for ( Synchronizer synchronizer : synchronizers ) {
             if ( synchronizer.handlesDelete( metaData ) ) {
@@ -238,6 +270,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 break;
             }
         }
+        columnIndexes.invalidate();
         eventBus.fireEvent( new AfterColumnDeleted( indexOf,
                                                     1 ) );
     }
@@ -255,8 +288,13 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                                                                                       editedColumn );
         for ( Synchronizer synchronizer : synchronizers ) {
             if ( synchronizer.handlesUpdate( originalMetaData ) ) {
-                return synchronizer.update( originalMetaData,
-                                            editedMetaData );
+                //Updates can replace a column or move it to another Pattern
+                try {
+                    return synchronizer.update( originalMetaData,
+                                                editedMetaData );
+                } finally {
+                    columnIndexes.invalidate();
+                }
             }
         }
         return Collections.emptyList();
@@ -270,8 +308,13 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         final MetaData editedMetaData = new BaseColumnSynchronizer.ColumnMetaDataImpl( editedColumn );
         for ( Synchronizer synchronizer : synchronizers ) {
             if ( synchronizer.handlesUpdate( originalMetaData ) ) {
-                final List<BaseColumnFieldDiff> diffs = synchronizer.update( originalMetaData,
-                                                                             editedMetaData );
+                final List<BaseColumnFieldDiff> diffs;
+                try {
+                    diffs = synchronizer.update( originalMetaData,
+                                                 editedMetaData );
+                } finally {
+                    columnIndexes.invalidate();
+                }
                 final boolean isSalienceUseRowNumberUpdated = BaseColumnFieldDiffImpl.hasChanged( AttributeCol52.FIELD_USE_ROW_NUMBER,
                                                                                                   diffs );
                 final boolean isSalienceUseReverseOrderUpdated = BaseColumnFieldDiffImpl.hasChanged( AttributeCol52.FIELD_REVERSE_ORDER,
@@ -341,6 +384,10 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                                              columnIndex ) );
             }
         }
+        if ( batchedUpdates != null ) {
+            batchedUpdates.addAll( updates );
+            return;
+        }
         final ValidateEvent event = new ValidateEvent( updates );
         eventBus.fireEvent( event );
     }
@@ -365,7 +412,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
             throw new MoveColumnVetoException();
         }
 
-        final BaseColumn modelColumn = model.getExpandedColumns().get( sourceColumnIndex );
+        final BaseColumn modelColumn = columnIndexes.getColumn( sourceColumnIndex );
         final List<MoveColumnToMetaData> metaData = new ArrayList<MoveColumnToMetaData>() {
             {
                 add( new MoveColumnToMetaDataImpl( sourceColumnIndex,
@@ -385,8 +432,12 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
             throw new MoveColumnVetoException();
         }
 
-        for ( Synchronizer synchronizer : handlers ) {
-            synchronizer.moveColumnsTo( metaData );
+        try {
+            for ( Synchronizer synchronizer : handlers ) {
+                synchronizer.moveColumnsTo( metaData );
+            }
+        } finally {
+            columnIndexes.invalidate();
         }
     }
 
@@ -403,7 +454,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 throw new MoveColumnVetoException();
             }
 
-            final BaseColumn modelColumn = model.getExpandedColumns().get( sourceColumnIndex );
+            final BaseColumn modelColumn = columnIndexes.getColumn( sourceColumnIndex );
             metaData.add( new MoveColumnToMetaDataImpl( sourceColumnIndex,
                                                         targetColumnIndex + index,
                                                         modelColumn ) );
@@ -421,7 +472,11 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
             throw new MoveColumnVetoException();
         }
 
-        handler.moveColumnsTo( metaData );
+        try {
+            handler.moveColumnsTo( metaData );
+        } finally {
+            columnIndexes.invalidate();
+        }
     }
 
     @Override
@@ -462,7 +517,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
 
     @Override
     public void updateSystemControlledColumnValues() {
-        for ( BaseColumn column : model.getExpandedColumns() ) {
+        for ( BaseColumn column : columnIndexes.getColumns() ) {
             if ( column instanceof RowNumberCol52 ) {
                 updateRowNumberColumnValues( (RowNumberCol52) column );
 
@@ -477,7 +532,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
 
     // Update Row Number column values
     private void updateRowNumberColumnValues( final RowNumberCol52 modelColumn ) {
-        final int iModelColumn = model.getExpandedColumns().indexOf( modelColumn );
+        final int iModelColumn = columnIndexes.getModelColumnIndex( modelColumn );
         for ( int rowNumber = 0; rowNumber < model.getData().size(); rowNumber++ ) {
             final List<DTCellValue52> modelRow = model.getData().get( rowNumber );
             final DTCellValue52 modelCell = modelRow.get( iModelColumn );
@@ -494,7 +549,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
 
     // Update Salience column definition and values
     private void updateSalienceColumnValues( final AttributeCol52 modelColumn ) {
-        final int iModelColumn = model.getExpandedColumns().indexOf( modelColumn );
+        final int iModelColumn = columnIndexes.getModelColumnIndex( modelColumn );
         final GridColumn<?> uiColumn = uiModel.getColumns().get( iModelColumn );
         if ( uiColumn instanceof SalienceUiColumn ) {
             ( (SalienceUiColumn) uiColumn ).setUseRowNumber( modelColumn.isUseRowNumber() );
@@ -530,7 +585,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
     @Override
     public void setCellOtherwiseState( final int rowIndex,
                                        final int columnIndex ) {
-        final BaseColumn modelColumn = model.getExpandedColumns().get( columnIndex );
+        final BaseColumn modelColumn = columnIndexes.getColumn( columnIndex );
         final DTCellValue52 modelCell = model.getData().get( rowIndex ).get( columnIndex );
         modelCell.clearValues();
         modelCell.setOtherwise( true );
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.utilities;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
+import org.uberfire.commons.validation.PortablePreconditions;
+
+/**
+ * Indexes of the Model's expanded columns and of the UiModel's columns. The indexes are built when first
+ * needed and kept until the columns change, when {@link #invalidate()} must be called.
+ */
+public class ColumnIndexes {
+
+    private final GuidedDecisionTable52 model;
+    private final GuidedDecisionTableUiModel uiModel;
+
+    private List<BaseColumn> columns;
+    private Map<BaseColumn, Integer> modelColumnIndexes;
+    private Map<Integer, Integer> uiColumnIndexes;
+
+    public ColumnIndexes( final GuidedDecisionTable52 model,
+                          final GuidedDecisionTableUiModel uiModel ) {
+        this.model = PortablePreconditions.checkNotNull( "model",
+                                                         model );
+        this.uiModel = PortablePreconditions.checkNotNull( "uiModel",
+                                                           uiModel );
+    }
+
+    /**
+     * @return The Model's expanded columns. The list must not be modified.
+     */
+    public List<BaseColumn> getColumns() {
+        if ( columns == null ) {
+            columns = model.getExpandedColumns();
+        }
+        return columns;
+    }
+
+    public BaseColumn getColumn( final int modelColumnIndex ) {
+        return getColumns().get( modelColumnIndex );
+    }
+
+    /**
+     * @return Index of the column in the Model's expanded columns, or -1 if the Model does not have the column
+     */
+    public int getModelColumnIndex( final BaseColumn column ) {
+        if ( modelColumnIndexes == null ) {
+            final List<BaseColumn> columns = getColumns();
+            modelColumnIndexes = new IdentityHashMap<>();
+            for ( int modelColumnIndex = columns.size() - 1; modelColumnIndex >= 0; modelColumnIndex-- ) {
+                modelColumnIndexes.put( columns.get( modelColumnIndex ),
+                                        modelColumnIndex );
+            }
+        }
+        final Integer modelColumnIndex = modelColumnIndexes.get( column );
+        if ( modelColumnIndex != null ) {
+            return modelColumnIndex;
+        }
+
+        //Callers can look up an equal copy of a column rather than the column itself
+        return getColumns().indexOf( column );
+    }
+
+    /**
+     * @return Index of the UiModel column showing the Model column. The UiModel columns can be re-ordered.
+     */
+    public int getUiColumnIndex( final int modelColumnIndex ) {
+        if ( uiColumnIndexes == null ) {
+            uiColumnIndexes = new HashMap<>();
+            for ( int uiColumnIndex = 0; uiColumnIndex < uiModel.getColumns().size(); uiColumnIndex++ ) {
+                uiColumnIndexes.put( uiModel.getColumns().get( uiColumnIndex ).getIndex(),
+                                     uiColumnIndex );
+            }
+        }
+        final Integer uiColumnIndex = uiColumnIndexes.get( modelColumnIndex );
+        if ( uiColumnIndex == null ) {
+            throw new IllegalStateException( "Column was not found!" );
+        }
+        return uiColumnIndex;
+    }
+
+    public void invalidate() {
+        columns = null;
+        modelColumnIndexes = null;
+        uiColumnIndexes = null;
+    }
+
+}
@@ -73,14 +73,22 @@ public class DependentEnumsUtilities
 
     private final GuidedDecisionTable52 model;
     private final AsyncPackageDataModelOracle oracle;
+    private final ColumnIndexes columnIndexes;
     private final CellUtilities cellUtilities;
 
+    //Dependent columns of each column, for the columns the dependencies were found from
+    private List<BaseColumn> dependenciesColumns;
+    private final Map<Integer, Set<Integer>> dependencies = new HashMap<Integer, Set<Integer>>();
+
     public DependentEnumsUtilities( final GuidedDecisionTable52 model,
-                                    final AsyncPackageDataModelOracle oracle ) {
+                                    final AsyncPackageDataModelOracle oracle,
+                                    final ColumnIndexes columnIndexes ) {
         this.model = PortablePreconditions.checkNotNull( "model",
                                                          model );
         this.oracle = PortablePreconditions.checkNotNull( "oracle",
                                                           oracle );
+        this.columnIndexes = PortablePreconditions.checkNotNull( "columnIndexes",
+                                                                 columnIndexes );
         this.cellUtilities = new CellUtilities();
     }
 
@@ -100,8 +108,7 @@ public class DependentEnumsUtilities
         final List<DTCellValue52> rowData = this.model.getData().get( iBaseRowIndex );
 
         //Get the column for the cell being edited
-        final List<BaseColumn> allColumns = this.model.getExpandedColumns();
-        final BaseColumn baseColumn = allColumns.get( iBaseColIndex );
+        final BaseColumn baseColumn = columnIndexes.getColumn( iBaseColIndex );
 
         //Get values for all Constraints or Actions on the same pattern as the baseColumn
         if ( baseColumn instanceof BRLConditionVariableColumn ) {
@@ -122,7 +129,7 @@ public class DependentEnumsUtilities
                     case TEMPLATE_KEY:
                         final BRLConditionVariableColumn vc = getConditionVariableColumnIndex( brl.getChildColumns(),
                                                                                                valueHolder.getValue() );
-                        final int iCol = allColumns.indexOf( vc );
+                        final int iCol = columnIndexes.getModelColumnIndex( vc );
                         final DTCellValue52 dcv = rowData.get( iCol );
                         final String field = vc.getFactField();
                         currentValueMap.put( field,
@@ -152,7 +159,7 @@ public class DependentEnumsUtilities
                     case TEMPLATE_KEY:
                         final BRLActionVariableColumn vc = getActionVariableColumnIndex( brl.getChildColumns(),
                                                                                          valueHolder.getValue() );
-                        final int iCol = allColumns.indexOf( vc );
+                        final int iCol = columnIndexes.getModelColumnIndex( vc );
                         final DTCellValue52 dcv = rowData.get( iCol );
                         final String field = vc.getFactField();
                         currentValueMap.put( field,
@@ -168,7 +175,7 @@ public class DependentEnumsUtilities
             final ConditionCol52 baseConditionColumn = (ConditionCol52) baseColumn;
             final Pattern52 basePattern = this.model.getPattern( baseConditionColumn );
             for ( ConditionCol52 cc : basePattern.getChildColumns() ) {
-                final int iCol = allColumns.indexOf( cc );
+                final int iCol = columnIndexes.getModelColumnIndex( cc );
                 final DTCellValue52 dcv = rowData.get( iCol );
                 currentValueMap.put( cc.getFactField(),
                                      cellUtilities.asString( dcv ) );
@@ -181,7 +188,7 @@ public class DependentEnumsUtilities
                 if ( ac instanceof ActionSetFieldCol52 ) {
                     final ActionSetFieldCol52 asf = (ActionSetFieldCol52) ac;
                     if ( asf.getBoundName().equals( binding ) ) {
-                        final int iCol = allColumns.indexOf( asf );
+                        final int iCol = columnIndexes.getModelColumnIndex( asf );
                         final DTCellValue52 dcv = rowData.get( iCol );
                         currentValueMap.put( asf.getFactField(),
                                              cellUtilities.asString( dcv ) );
@@ -196,7 +203,7 @@ public class DependentEnumsUtilities
                 if ( ac instanceof ActionInsertFactCol52 ) {
                     final ActionInsertFactCol52 aif = (ActionInsertFactCol52) ac;
                     if ( aif.getBoundName().equals( binding ) ) {
-                        final int iCol = allColumns.indexOf( aif );
+                        final int iCol = columnIndexes.getModelColumnIndex( aif );
                         final DTCellValue52 dcv = rowData.get( iCol );
                         currentValueMap.put( aif.getFactField(),
                                              cellUtilities.asString( dcv ) );
@@ -233,11 +240,26 @@ public class DependentEnumsUtilities
     @Override
     public Set<Integer> getDependentColumnIndexes( final Context context ) {
         final int iBaseColIndex = context.getColumnIndex();
-        final Set<Integer> dependentColumnIndexes = new HashSet<Integer>();
 
-        //Get the column for the cell being edited
-        final List<BaseColumn> allColumns = this.model.getExpandedColumns();
-        final BaseColumn baseColumn = allColumns.get( iBaseColIndex );
+        //Dependencies only change with the columns. ColumnIndexes gives a new List when the columns have changed.
+        final List<BaseColumn> allColumns = columnIndexes.getColumns();
+        if ( allColumns != dependenciesColumns ) {
+            dependenciesColumns = allColumns;
+            dependencies.clear();
+        }
+        Set<Integer> dependentColumnIndexes = dependencies.get( iBaseColIndex );
+        if ( dependentColumnIndexes == null ) {
+            dependentColumnIndexes = makeDependentColumnIndexes( allColumns.get( iBaseColIndex ) );
+            dependencies.put( iBaseColIndex,
+                              dependentColumnIndexes );
+        }
+
+        //Callers can add to the Set
+        return new HashSet<Integer>( dependentColumnIndexes );
+    }
+
+    private Set<Integer> makeDependentColumnIndexes( final BaseColumn baseColumn ) {
+        final Set<Integer> dependentColumnIndexes = new HashSet<Integer>();
 
         //Get values for all Constraints or Actions on the same pattern as the baseColumn
         if ( baseColumn instanceof BRLConditionVariableColumn ) {
@@ -261,7 +283,7 @@ public class DependentEnumsUtilities
                                                      valueHolder.getFieldName() ) ) {
                             final BRLConditionVariableColumn vc = getConditionVariableColumnIndex( brl.getChildColumns(),
                                                                                                    valueHolder.getValue() );
-                            final int iCol = allColumns.indexOf( vc );
+                            final int iCol = columnIndexes.getModelColumnIndex( vc );
                             dependentColumnIndexes.add( iCol );
                         }
                         break;
@@ -289,7 +311,7 @@ public class DependentEnumsUtilities
                                                      valueHolder.getFieldName() ) ) {
                             final BRLActionVariableColumn vc = getActionVariableColumnIndex( brl.getChildColumns(),
                                                                                              valueHolder.getValue() );
-                            final int iCol = allColumns.indexOf( vc );
+                            final int iCol = columnIndexes.getModelColumnIndex( vc );
                             dependentColumnIndexes.add( iCol );
                         }
                         break;
@@ -303,7 +325,7 @@ public class DependentEnumsUtilities
                 if ( oracle.isDependentEnum( basePattern.getFactType(),
                                              baseConditionColumn.getFactField(),
                                              cc.getFactField() ) ) {
-                    dependentColumnIndexes.add( allColumns.indexOf( cc ) );
+                    dependentColumnIndexes.add( columnIndexes.getModelColumnIndex( cc ) );
                 }
             }
 
@@ -318,7 +340,7 @@ public class DependentEnumsUtilities
                         if ( oracle.isDependentEnum( basePattern.getFactType(),
                                                      baseActionColumn.getFactField(),
                                                      asf.getFactField() ) ) {
-                            dependentColumnIndexes.add( allColumns.indexOf( ac ) );
+                            dependentColumnIndexes.add( columnIndexes.getModelColumnIndex( ac ) );
                         }
                     }
                 }
@@ -334,7 +356,7 @@ public class DependentEnumsUtilities
                         if ( oracle.isDependentEnum( baseActionColumn.getFactType(),
                                                      baseActionColumn.getFactField(),
                                                      aif.getFactField() ) ) {
-                            dependentColumnIndexes.add( allColumns.indexOf( ac ) );
+                            dependentColumnIndexes.add( columnIndexes.getModelColumnIndex( ac ) );
                         }
                     }
                 }
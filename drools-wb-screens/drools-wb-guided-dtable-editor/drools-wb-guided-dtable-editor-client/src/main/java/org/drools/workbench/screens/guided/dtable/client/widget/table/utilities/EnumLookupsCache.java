@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.utilities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Enumeration lookups already resolved for a table, keyed on the Fact Type, Field and the values of the
+ * Fields in scope of a dependent enumeration. Only fixed lists belong here, the results of enumerations
+ * defined by an external query can change while the table is open. The least recently used lookups are
+ * dropped when the cache is full.
+ */
+public class EnumLookupsCache {
+
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    private final Map<Key, Map<String, String>> lookups;
+
+    public EnumLookupsCache() {
+        this( DEFAULT_MAX_SIZE );
+    }
+
+    public EnumLookupsCache( final int maxSize ) {
+        this.lookups = new LinkedHashMap<Key, Map<String, String>>( 16,
+                                                                    0.75f,
+                                                                    true ) {
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry<Key, Map<String, String>> eldest ) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return The lookups, or null if they have not been resolved or have been dropped
+     */
+    public Map<String, String> get( final String factType,
+                                    final String factField,
+                                    final Map<String, String> currentValueMap ) {
+        return lookups.get( new Key( factType,
+                                     factField,
+                                     currentValueMap ) );
+    }
+
+    public void put( final String factType,
+                     final String factField,
+                     final Map<String, String> currentValueMap,
+                     final Map<String, String> lookups ) {
+        this.lookups.put( new Key( factType,
+                                   factField,
+                                   currentValueMap ),
+                          lookups );
+    }
+
+    public void clear() {
+        lookups.clear();
+    }
+
+    private static class Key {
+
+        private final String factType;
+        private final String factField;
+        private final Map<String, String> currentValueMap;
+
+        private Key( final String factType,
+                     final String factField,
+                     final Map<String, String> currentValueMap ) {
+            this.factType = factType;
+            this.factField = factField;
+            this.currentValueMap = currentValueMap;
+        }
+
+        @Override
+        public boolean equals( final Object o ) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( !( o instanceof Key ) ) {
+                return false;
+            }
+            final Key key = (Key) o;
+            if ( factType != null ? !factType.equals( key.factType ) : key.factType != null ) {
+                return false;
+            }
+            if ( factField != null ? !factField.equals( key.factField ) : key.factField != null ) {
+                return false;
+            }
+            return currentValueMap != null ? currentValueMap.equals( key.currentValueMap ) : key.currentValueMap == null;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = factType != null ? factType.hashCode() : 0;
+            result = ~~result;
+            result = 31 * result + ( factField != null ? factField.hashCode() : 0 );
+            result = ~~result;
+            result = 31 * result + ( currentValueMap != null ? currentValueMap.hashCode() : 0 );
+            result = ~~result;
+            return result;
+        }
+    }
+
+}
@@ -22,7 +22,9 @@ import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
+import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.Widget;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
@@ -51,6 +53,9 @@ import org.uberfire.ext.widgets.core.client.wizards.WizardPage;
 @Dependent
 public class NewGuidedDecisionTableWizard extends AbstractWizard {
 
+    //Expanding many columns with many values can generate more rows than the editor can hold
+    static final int MAX_ROW_COUNT = 10000;
+
     @Inject
     private SummaryPage summaryPage;
 
@@ -164,6 +169,9 @@ public class NewGuidedDecisionTableWizard extends AbstractWizard {
     @Override
     public void complete() {
 
+        //Pages add their action columns to the decision table, keep the old ones in case the user goes back
+        final List<ActionCol52> actionColumns = new ArrayList<ActionCol52>( model.getActionCols() );
+
         //Ensure each page updates the decision table as necessary
         for ( WizardPage page : this.pages ) {
             AbstractGuidedDecisionTableWizardPage gep = (AbstractGuidedDecisionTableWizardPage) page;
@@ -185,13 +193,23 @@ public class NewGuidedDecisionTableWizard extends AbstractWizard {
                                 true );
         }
 
+        final long rowCount = re.getRowCount();
+        if ( rowCount > MAX_ROW_COUNT ) {
+            if ( !confirmTooManyRows( rowCount ) ) {
+                model.getActionCols().clear();
+                model.getActionCols().addAll( actionColumns );
+                return;
+            }
+            re.setMaxRowCount( MAX_ROW_COUNT );
+        }
+
         //Slurp out expanded rows and construct decision table data
         int rowIndex = 0;
         final RowExpander.RowIterator ri = re.iterator();
         while ( ri.hasNext() ) {
             List<DTCellValue52> row = ri.next();
+            row.get( 0 ).setNumericValue( new BigDecimal( rowIndex + 1 ) );
             model.getData().add( row );
-            model.getData().get( rowIndex ).get( 0 ).setNumericValue( new BigDecimal( rowIndex + 1 ) );
             rowIndex++;
         }
 
@@ -207,6 +225,12 @@ public class NewGuidedDecisionTableWizard extends AbstractWizard {
                       model );
     }
 
+    //Override for tests, Window.confirm blocks
+    protected boolean confirmTooManyRows( final long rowCount ) {
+        return Window.confirm( GuidedDecisionTableConstants.INSTANCE.DecisionTableWizardTooManyRows0Max1( rowCount,
+                                                                                                        MAX_ROW_COUNT ) );
+    }
+
     @Override
     public void close() {
         super.close();
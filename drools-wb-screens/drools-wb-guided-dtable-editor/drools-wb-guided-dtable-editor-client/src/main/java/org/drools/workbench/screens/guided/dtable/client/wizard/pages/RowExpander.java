@@ -52,6 +52,8 @@ public class RowExpander {
     private final ColumnUtilities columnUtilities;
     private final AsyncPackageDataModelOracle oracle;
 
+    private int maxRowCount = Integer.MAX_VALUE;
+
     private static final List<DTCellValue52> EMPTY_VALUE = new ArrayList<DTCellValue52>();
 
     {
@@ -236,6 +238,34 @@ public class RowExpander {
         return new RowIterator();
     }
 
+    /**
+     * The number of rows the expanded form has, before any limit set by
+     * setMaxRowCount(int). The values of dependent enumerations are not known
+     * until the values of the columns they depend upon are known, so for
+     * these columns the values available for the first row are counted.
+     * @return The number of rows, or Long.MAX_VALUE if there are more
+     */
+    public long getRowCount() {
+        long rowCount = 1;
+        for ( ColumnValues cv : columns ) {
+            final int valueCount = cv.values.size();
+            if ( rowCount > Long.MAX_VALUE / valueCount ) {
+                return Long.MAX_VALUE;
+            }
+            rowCount = rowCount * valueCount;
+        }
+        return rowCount;
+    }
+
+    /**
+     * Limit the number of rows returned by the Iterator. The rows are the
+     * first of the expanded form.
+     * @param maxRowCount
+     */
+    public void setMaxRowCount( final int maxRowCount ) {
+        this.maxRowCount = maxRowCount;
+    }
+
     /**
      * Indicate whether the provided column should be expanded or not. If the
      * column was not part of the Decision Table used in the Constructor no
@@ -259,9 +289,14 @@ public class RowExpander {
             implements
             Iterator<List<DTCellValue52>> {
 
+        private int rowCount = 0;
+
         //Check if all columns have had their value lists consumed
         @Override
         public boolean hasNext() {
+            if ( rowCount >= maxRowCount ) {
+                return false;
+            }
             for ( ColumnValues cv : columns ) {
                 if ( !cv.isAllValuesUsed() ) {
                     return true;
@@ -298,6 +333,7 @@ public class RowExpander {
 
             //Advance the first column to the next value
             columns.get( columns.size() - 1 ).advanceColumnValue();
+            rowCount++;
             return row;
         }
 
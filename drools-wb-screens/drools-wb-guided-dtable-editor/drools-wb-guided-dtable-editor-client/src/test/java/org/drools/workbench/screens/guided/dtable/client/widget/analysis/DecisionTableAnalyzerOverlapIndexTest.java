@@ -0,0 +1,218 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.event.shared.EventBus;
+import com.google.gwt.i18n.client.DateTimeFormat;
+import com.google.gwtmockito.GwtMock;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.models.datamodel.oracle.DataType;
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.client.resources.i18n.AnalysisConstants;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache.RuleInspector;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base.Checks;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.panel.AnalysisReport;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.reporting.Issue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.preferences.ApplicationPreferences;
+import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
+import org.mockito.Mock;
+import org.uberfire.mvp.Command;
+import org.uberfire.mvp.ParameterizedCommand;
+import org.uberfire.mvp.PlaceRequest;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The OverlapIndex only leaves out pair checks that can not find anything, so the report has to be the same
+ * as the one made by comparing every row against every other row.
+ */
+@RunWith(GwtMockitoTestRunner.class)
+public class DecisionTableAnalyzerOverlapIndexTest {
+
+    @GwtMock
+    AnalysisConstants analysisConstants;
+
+    @GwtMock
+    DateTimeFormat dateTimeFormat;
+
+    @Mock
+    AsyncPackageDataModelOracle oracle;
+
+    private AnalysisReport analysisReport;
+
+    @Before
+    public void setUp() throws Exception {
+        Map<String, String> preferences = new HashMap<String, String>();
+        preferences.put( ApplicationPreferences.DATE_FORMAT, "dd-MMM-yyyy" );
+        ApplicationPreferences.setUp( preferences );
+
+        when( oracle.getFieldType( "Person", "age" ) ).thenReturn( DataType.TYPE_NUMERIC_INTEGER );
+        when( oracle.getFieldType( "Person", "name" ) ).thenReturn( DataType.TYPE_STRING );
+        when( oracle.getFieldType( "Person", "salary" ) ).thenReturn( DataType.TYPE_NUMERIC_BIGDECIMAL );
+        when( oracle.getFieldType( "Person", "approved" ) ).thenReturn( DataType.TYPE_BOOLEAN );
+        when( oracle.getFieldType( "Player", "score" ) ).thenReturn( DataType.TYPE_NUMERIC_INTEGER );
+    }
+
+    @Test
+    public void testTableWithRedundanciesAndConflicts() throws Exception {
+        assertSameReport( makeTable() );
+    }
+
+    @Test
+    public void testTableFromFile() throws Exception {
+        assertSameReport( "Pricing loans version 2.gdst" );
+        assertSameReport( "Score Achievements.gdst" );
+    }
+
+    @Test
+    public void testUpdatedRows() throws Exception {
+        final GuidedDecisionTable52 withIndex = makeTable();
+        final GuidedDecisionTable52 withoutIndex = makeTable();
+
+        final DecisionTableAnalyzer analyzerWithIndex = getAnalyser( withIndex,
+                                                                     true );
+        final DecisionTableAnalyzer analyzerWithoutIndex = getAnalyser( withoutIndex,
+                                                                        false );
+        analyzerWithIndex.onValidate( new ValidateEvent( Collections.emptyList() ) );
+        analyzerWithoutIndex.onValidate( new ValidateEvent( Collections.emptyList() ) );
+
+        //Paste over several rows, so the rows are removed and added back as one batch
+        final List<Coordinate> updates = new ArrayList<Coordinate>();
+        for ( final int row : new int[]{0, 2, 5} ) {
+            withIndex.getData().get( row ).get( 2 ).setNumericValue( 30 );
+            withoutIndex.getData().get( row ).get( 2 ).setNumericValue( 30 );
+            updates.add( new Coordinate( row,
+                                         2 ) );
+        }
+
+        analyzerWithIndex.onValidate( new ValidateEvent( updates ) );
+        final List<String> expected = describe( analysisReport );
+
+        analyzerWithoutIndex.onValidate( new ValidateEvent( updates ) );
+        assertEquals( describe( analysisReport ),
+                      expected );
+    }
+
+    private GuidedDecisionTable52 makeTable() {
+        return new ExtendedGuidedDecisionTableBuilder( "org.test",
+                                                       new ArrayList<Import>(),
+                                                       "mytable" )
+                .withConditionIntegerColumn( "a", "Person", "age", "==" )
+                .withStringColumn( "a", "Person", "name", "==" )
+                .withNumericColumn( "a", "Person", "salary", "==" )
+                .withActionSetField( "a", "approved", DataType.TYPE_BOOLEAN )
+                .withData( new Object[][]{
+                        {1, "description", 10, "Toni", new BigDecimal( "10" ), true},
+                        {2, "description", 10, "Toni", new BigDecimal( "10.0" ), true},
+                        {3, "description", 10, "Toni", new BigDecimal( "10.00" ), false},
+                        {4, "description", 20, "Eder", new BigDecimal( "20" ), true},
+                        {5, "description", null, "Eder", null, true},
+                        {6, "description", 20, null, new BigDecimal( "20.0" ), false}} )
+                .build();
+    }
+
+    private void assertSameReport( final String fileName ) throws Exception {
+        final String xml = DecisionTableAnalyzerFromFileTest.loadResource( fileName );
+        assertSameReport( GuidedDTXMLPersistence.getInstance().unmarshal( xml ) );
+    }
+
+    private void assertSameReport( final GuidedDecisionTable52 table52 ) {
+        getAnalyser( table52,
+                     true ).onValidate( new ValidateEvent( Collections.emptyList() ) );
+        final List<String> expected = describe( analysisReport );
+
+        getAnalyser( table52,
+                     false ).onValidate( new ValidateEvent( Collections.emptyList() ) );
+        assertEquals( describe( analysisReport ),
+                      expected );
+    }
+
+    //Issues do not implement equals, so they are compared by what the report shows of them
+    private List<String> describe( final AnalysisReport report ) {
+        final List<String> result = new ArrayList<String>();
+        for ( final Issue issue : report.getAnalysisData() ) {
+            result.add( issue.getSeverity() + " " + issue.getTitle() + " " + issue.getRowNumbers() );
+        }
+        Collections.sort( result );
+        return result;
+    }
+
+    private DecisionTableAnalyzer getAnalyser( final GuidedDecisionTable52 table52,
+                                               final boolean useOverlapIndex ) {
+        return new DecisionTableAnalyzer( mock( PlaceRequest.class ),
+                                          oracle,
+                                          table52,
+                                          mock( EventBus.class ) ) {
+            @Override
+            protected void sendReport( final AnalysisReport report ) {
+                analysisReport = report;
+            }
+
+            @Override
+            protected Checks getChecks() {
+                return new Checks() {
+                    @Override
+                    protected void doRun( final CancellableRepeatingCommand command ) {
+                        while ( command.execute() ) {
+                            //loop
+                        }
+                    }
+
+                    @Override
+                    protected Collection<RuleInspector> getCandidates( final RuleInspector ruleInspector ) {
+                        if ( useOverlapIndex ) {
+                            return super.getCandidates( ruleInspector );
+                        }
+                        final List<RuleInspector> others = new ArrayList<RuleInspector>( ruleInspector.getCache().all() );
+                        others.remove( ruleInspector );
+                        return others;
+                    }
+                };
+            }
+
+            @Override
+            protected ParameterizedCommand<Status> getOnStatusCommand() {
+                return null;
+            }
+
+            @Override
+            protected Command getOnCompletionCommand() {
+                return new Command() {
+                    @Override
+                    public void execute() {
+                        sendReport( makeAnalysisReport() );
+                    }
+                };
+            }
+        };
+    }
+
+}
@@ -223,6 +223,42 @@ public class DecisionTableAnalyzerTest {
 
     }
 
+    @Test
+    public void testValidateAgainKeepsTheSameIssues() throws Exception {
+        GuidedDecisionTable52 table52 = new LimitedGuidedDecisionTableBuilder( "org.test",
+                                                                               new ArrayList<Import>(),
+                                                                               "mytable" )
+                .withIntegerColumn( "a", "Person", "age", "==", 0 )
+                .withAction( "a", "Person", "approved", new DTCellValue52() {
+                    {
+                        setBooleanValue( true );
+                    }
+                } ).withAction( "a", "Person", "approved", new DTCellValue52() {
+                    {
+                        setBooleanValue( true );
+                    }
+                } )
+                .withData( new Object[][]{
+                        { 1, "description", true, true, false },
+                        { 2, "description", true, false, true },
+                        { 3, "description", true, true, true } } )
+                .build();
+
+        DecisionTableAnalyzer analyzer = getDecisionTableAnalyzer( table52 );
+
+        analyzer.onValidate( new ValidateEvent( Collections.emptyList() ) );
+        final int issueCount = analysisReport.getAnalysisData().size();
+
+        //The rows are reset, so their checks are replaced and not added a second time
+        analyzer.onValidate( new ValidateEvent( Collections.emptyList() ) );
+
+        assertEquals( issueCount,
+                      analysisReport.getAnalysisData().size() );
+        assertContains( "RedundantRows", analysisReport, 1 );
+        assertContains( "RedundantRows", analysisReport, 2 );
+
+    }
+
     @Test
     public void testOnFocus() throws Exception {
         DecisionTableAnalyzer analyzer = getDecisionTableAnalyzer( new GuidedDecisionTable52() );
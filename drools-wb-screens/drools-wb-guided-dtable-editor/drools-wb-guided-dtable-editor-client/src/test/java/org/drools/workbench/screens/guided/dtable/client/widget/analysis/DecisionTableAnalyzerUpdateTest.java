@@ -246,6 +246,83 @@ public class DecisionTableAnalyzerUpdateTest {
 
     }
 
+    @Test
+    public void testAddColumnOnNewFieldAndEditItsCells() throws Exception {
+        when( oracle.getFieldType( "Person", "rejected" ) ).thenReturn( DataType.TYPE_BOOLEAN );
+
+        GuidedDecisionTable52 table52 = new ExtendedGuidedDecisionTableBuilder( "org.test",
+                                                                                new ArrayList<Import>(),
+                                                                                "mytable" )
+                .withConditionIntegerColumn( "a", "Person", "age", "==" )
+                .withActionSetField( "a", "approved", DataType.TYPE_BOOLEAN )
+                .withData( new Object[][]{
+                        { 1, "description", 1, true },
+                        { 2, "description", 1, true } } )
+                .build();
+
+        DecisionTableAnalyzer analyzer = getDecisionTableAnalyzer( table52 );
+
+        analyzer.onValidate( new ValidateEvent( Collections.emptyList() ) );
+
+        // ADD COLUMN, the cells are empty
+        table52.getActionCols().add( createActionSetField( "a", "rejected", DataType.TYPE_BOOLEAN ) );
+        table52.getData().get( 0 ).add( new DTCellValue52( ( Boolean ) null ) );
+        table52.getData().get( 1 ).add( new DTCellValue52( ( Boolean ) null ) );
+
+        analyzer.onAfterColumnInserted( new AfterColumnInserted( 4 ) );
+
+        assertContains( "RedundantRows", analysisReport, 1 );
+        assertContains( "RedundantRows", analysisReport, 2 );
+
+        // EDIT THE CELLS OF THE NEW COLUMN
+        table52.getData().get( 0 ).get( 4 ).setBooleanValue( true );
+        table52.getData().get( 1 ).get( 4 ).setBooleanValue( false );
+
+        ArrayList<Coordinate> updates = new ArrayList<>();
+        updates.add( new Coordinate( 0, 4 ) );
+        updates.add( new Coordinate( 1, 4 ) );
+        analyzer.onValidate( new ValidateEvent( updates ) );
+
+        assertContains( "ConflictingRows", analysisReport, 1 );
+        assertContains( "ConflictingRows", analysisReport, 2 );
+    }
+
+    @Test
+    public void testChangesBeforeTheFirstAnalysisAreNotTracked() throws Exception {
+        GuidedDecisionTable52 table52 = new ExtendedGuidedDecisionTableBuilder( "org.test",
+                                                                                new ArrayList<Import>(),
+                                                                                "mytable" )
+                .withConditionIntegerColumn( "a", "Person", "age", "==" )
+                .withActionSetField( "a", "approved", DataType.TYPE_BOOLEAN )
+                .withData( new Object[][]{
+                        { 1, "description", 1, true },
+                        { 2, "description", 2, true },
+                        { 3, "description", 3, true },
+                        { 4, "description", 4, true } } )
+                .build();
+
+        DecisionTableAnalyzer analyzer = getDecisionTableAnalyzer( table52 );
+
+        // ADD COLUMN
+        table52.getActionCols().add( createActionSetField( "a", "approved", DataType.TYPE_BOOLEAN ) );
+        for ( int i = 0; i < table52.getData().size(); i++ ) {
+            table52.getData().get( i ).add( new DTCellValue52( i != 2 ) );
+        }
+        analyzer.onAfterColumnInserted( new AfterColumnInserted( 4 ) );
+
+        // DELETE ROW
+        analyzer.onDeleteRow( new DeleteRowEvent( 0 ) );
+        table52.getData().remove( 0 );
+        analyzer.onUpdateColumnData( new UpdateColumnDataEvent( 0,
+                                                                new ArrayList<CellValue<? extends Comparable<?>>>() ) );
+
+        assertNull( analysisReport );
+
+        analyzer.onValidate( new ValidateEvent( Collections.emptyList() ) );
+
+        assertContains( "MultipleValuesForOneAction", analysisReport, 2 );
+    }
+
     @Test
     public void testInsertRow() throws Exception {
 
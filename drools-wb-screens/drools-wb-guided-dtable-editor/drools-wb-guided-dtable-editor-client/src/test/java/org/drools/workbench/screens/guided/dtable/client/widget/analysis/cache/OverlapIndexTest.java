@@ -0,0 +1,183 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.gwt.i18n.client.DateTimeFormat;
+import com.google.gwtmockito.GwtMock;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.models.datamodel.oracle.DataType;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.ExtendedGuidedDecisionTableBuilder;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.UpdateHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.preferences.ApplicationPreferences;
+import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
+import org.mockito.Mock;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class OverlapIndexTest {
+
+    private RuleInspectorCache cache;
+    private OverlapIndex       overlapIndex;
+
+    @Mock
+    private AsyncPackageDataModelOracle oracle;
+
+    @Mock
+    private UpdateHandler updateHandler;
+
+    @GwtMock
+    DateTimeFormat dateTimeFormat;
+
+    @Before
+    public void setUp() throws Exception {
+        Map<String, String> preferences = new HashMap<String, String>();
+        preferences.put( ApplicationPreferences.DATE_FORMAT, "dd-MMM-yyyy" );
+        ApplicationPreferences.setUp( preferences );
+
+        when( oracle.getFieldType( "Person", "age" ) ).thenReturn( DataType.TYPE_NUMERIC_INTEGER );
+        when( oracle.getFieldType( "Person", "name" ) ).thenReturn( DataType.TYPE_STRING );
+        when( oracle.getFieldType( "Person", "salary" ) ).thenReturn( DataType.TYPE_NUMERIC_BIGDECIMAL );
+        when( oracle.getFieldType( "Person", "approved" ) ).thenReturn( DataType.TYPE_BOOLEAN );
+
+        final GuidedDecisionTable52 table52 = new ExtendedGuidedDecisionTableBuilder( "org.test",
+                                                                                      new ArrayList<Import>(),
+                                                                                      "mytable" )
+                .withConditionIntegerColumn( "a", "Person", "age", "==" )
+                .withStringColumn( "a", "Person", "name", "==" )
+                .withActionSetField( "a", "approved", DataType.TYPE_BOOLEAN )
+                .withData( new Object[][]{
+                        {1, "description", 10, "Toni", true},
+                        {2, "description", 20, "Toni", true},
+                        {3, "description", 10, "Eder", true},
+                        {4, "description", 10, "Toni", false}} )
+                .build();
+
+        cache = new RuleInspectorCache( oracle,
+                                        table52,
+                                        updateHandler );
+
+        overlapIndex = new OverlapIndex( cache.all() );
+    }
+
+    @Test
+    public void testContainsAllRows() throws Exception {
+        for ( final RuleInspector ruleInspector : cache.all() ) {
+            assertTrue( overlapIndex.contains( ruleInspector ) );
+        }
+    }
+
+    @Test
+    public void testRowsWithTheSameValues() throws Exception {
+        assertCandidates( 0,
+                          3 );
+        assertCandidates( 3,
+                          0 );
+    }
+
+    @Test
+    public void testRowsWithConflictingValues() throws Exception {
+        assertCandidates( 1 );
+        assertCandidates( 2 );
+    }
+
+    @Test
+    public void testRowsWithoutAConditionOnTheFieldAreCandidates() throws Exception {
+        final GuidedDecisionTable52 table52 = new ExtendedGuidedDecisionTableBuilder( "org.test",
+                                                                                      new ArrayList<Import>(),
+                                                                                      "mytable" )
+                .withConditionIntegerColumn( "a", "Person", "age", "==" )
+                .withStringColumn( "a", "Person", "name", "==" )
+                .withActionSetField( "a", "approved", DataType.TYPE_BOOLEAN )
+                .withData( new Object[][]{
+                        {1, "description", 10, "Toni", true},
+                        {2, "description", 20, "Toni", true},
+                        {3, "description", null, "Toni", true},
+                        {4, "description", 30, null, true}} )
+                .build();
+
+        cache = new RuleInspectorCache( oracle,
+                                        table52,
+                                        updateHandler );
+
+        overlapIndex = new OverlapIndex( cache.all() );
+
+        assertCandidates( 0,
+                          2 );
+        assertCandidates( 2,
+                          0, 1, 3 );
+        assertCandidates( 3,
+                          2 );
+    }
+
+    @Test
+    public void testBigDecimalValuesWithADifferentScaleAreTheSameValue() throws Exception {
+        final GuidedDecisionTable52 table52 = new ExtendedGuidedDecisionTableBuilder( "org.test",
+                                                                                      new ArrayList<Import>(),
+                                                                                      "mytable" )
+                .withNumericColumn( "a", "Person", "salary", "==" )
+                .withActionSetField( "a", "approved", DataType.TYPE_BOOLEAN )
+                .withData( new Object[][]{
+                        {1, "description", new BigDecimal( "10" ), true},
+                        {2, "description", new BigDecimal( "10.0" ), false},
+                        {3, "description", new BigDecimal( "20" ), true}} )
+                .build();
+
+        cache = new RuleInspectorCache( oracle,
+                                        table52,
+                                        updateHandler );
+
+        overlapIndex = new OverlapIndex( cache.all() );
+
+        assertCandidates( 0,
+                          1 );
+        assertCandidates( 1,
+                          0 );
+        assertCandidates( 2 );
+    }
+
+    private void assertCandidates( final int rowIndex,
+                                   final int... expectedRowIndexes ) {
+        final Collection<RuleInspector> candidates = overlapIndex.getCandidates( getRuleInspector( rowIndex ) );
+
+        assertEquals( expectedRowIndexes.length,
+                      candidates.size() );
+        for ( final int expectedRowIndex : expectedRowIndexes ) {
+            assertTrue( candidates.contains( getRuleInspector( expectedRowIndex ) ) );
+        }
+    }
+
+    private RuleInspector getRuleInspector( final int rowIndex ) {
+        for ( final RuleInspector ruleInspector : cache.all() ) {
+            if ( ruleInspector.getRowIndex() == rowIndex ) {
+                return ruleInspector;
+            }
+        }
+        throw new IllegalArgumentException( "No row " + rowIndex );
+    }
+}
@@ -29,6 +29,7 @@ import org.drools.workbench.models.datamodel.imports.Import;
 import org.drools.workbench.models.datamodel.oracle.DataType;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.MetadataCol52;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.ExtendedGuidedDecisionTableBuilder;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.UpdateHandler;
 import org.junit.Before;
@@ -40,6 +41,7 @@ import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordin
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
+import static org.drools.workbench.screens.guided.dtable.client.widget.analysis.ExtendedGuidedDecisionTableBuilder.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -87,6 +89,38 @@ public class RuleInspectorCacheTest {
         assertEquals( 7, cache.all().size() );
     }
 
+    @Test
+    public void testColumnTypesAreResolvedOncePerColumn() throws Exception {
+        final AsyncPackageDataModelOracle oracle = mock( AsyncPackageDataModelOracle.class );
+
+        new RuleInspectorCache( oracle,
+                                table52,
+                                updateHandler );
+
+        verify( oracle,
+                times( 2 ) ).getFieldType( "Person",
+                                           "age" );
+    }
+
+    @Test
+    public void testColumnTypesAreResolvedAgainForEachOperation() throws Exception {
+        final AsyncPackageDataModelOracle oracle = mock( AsyncPackageDataModelOracle.class );
+
+        final RuleInspectorCache cache = new RuleInspectorCache( oracle,
+                                                                 table52,
+                                                                 updateHandler );
+
+        //The columns can be edited in place between the operations
+        final List<DTCellValue52> row = new ArrayList<>( table52.getData().get( 0 ) );
+        table52.getData().add( row );
+        cache.addRow( 7,
+                      row );
+
+        verify( oracle,
+                times( 4 ) ).getFieldType( "Person",
+                                           "age" );
+    }
+
     @Test
     public void testRemoveRow() throws Exception {
         cache.removeRow( 3 );
@@ -125,7 +159,8 @@ public class RuleInspectorCacheTest {
         table52.getData().get( 5 ).remove( 4 );
         table52.getData().get( 6 ).remove( 4 );
 
-        cache.deleteColumns( 4, 1 );
+        final Map<RuleInspector, RuleInspector> replaced = cache.deleteColumns( 4, 1 );
+        assertEquals( 7, replaced.size() );
 
         Collection<RuleInspector> all = cache.all();
         assertEquals( 7, all.size() );
@@ -135,6 +170,72 @@ public class RuleInspectorCacheTest {
         }
     }
 
+    @Test
+    public void testNewMetadataColumnKeepsRuleInspectors() throws Exception {
+        final Collection<RuleInspector> before = new ArrayList<>( cache.all() );
+
+        final MetadataCol52 metadataColumn = new MetadataCol52();
+        metadataColumn.setMetadata( "metadata" );
+        table52.getMetadataCols().add( metadataColumn );
+        for ( final List<DTCellValue52> row : table52.getData() ) {
+            row.add( 2, new DTCellValue52( "value" ) );
+        }
+
+        assertTrue( cache.newColumn( 2 ).isEmpty() );
+
+        assertEquals( 7, cache.all().size() );
+        assertTrue( cache.all().containsAll( before ) );
+    }
+
+    @Test
+    public void testNewActionColumnReplacesRuleInspectors() throws Exception {
+        table52.getActionCols().add( createActionSetField( "a", "rejected", DataType.TYPE_BOOLEAN ) );
+        for ( final List<DTCellValue52> row : table52.getData() ) {
+            row.add( new DTCellValue52( true ) );
+        }
+
+        final Map<RuleInspector, RuleInspector> replaced = cache.newColumn( 5 );
+
+        assertEquals( 7, replaced.size() );
+        assertEquals( 7, cache.all().size() );
+        assertTrue( cache.all().containsAll( replaced.values() ) );
+    }
+
+    @Test
+    public void testNewActionColumnKeepsRuleInspectorsOfEmptyCells() throws Exception {
+        final Collection<RuleInspector> before = new ArrayList<>( cache.all() );
+
+        table52.getActionCols().add( createActionSetField( "a", "approved", DataType.TYPE_BOOLEAN ) );
+        for ( final List<DTCellValue52> row : table52.getData() ) {
+            row.add( new DTCellValue52( ( Boolean ) null ) );
+        }
+        table52.getData().get( 2 ).get( 5 ).setBooleanValue( true );
+
+        final Map<RuleInspector, RuleInspector> replaced = cache.newColumn( 5 );
+
+        assertEquals( 1, replaced.size() );
+        assertEquals( 2, replaced.keySet().iterator().next().getRowIndex() );
+        assertEquals( 7, cache.all().size() );
+
+        before.removeAll( replaced.keySet() );
+        assertTrue( cache.all().containsAll( before ) );
+    }
+
+    @Test
+    public void testNewActionColumnOnNewFieldReplacesRuleInspectorsOfEmptyCells() throws Exception {
+        table52.getActionCols().add( createActionSetField( "a", "rejected", DataType.TYPE_BOOLEAN ) );
+        for ( final List<DTCellValue52> row : table52.getData() ) {
+            row.add( new DTCellValue52( ( Boolean ) null ) );
+        }
+
+        //The pattern of every row got the field, so every row needs a RuleInspector that inspects it
+        final Map<RuleInspector, RuleInspector> replaced = cache.newColumn( 5 );
+
+        assertEquals( 7, replaced.size() );
+        assertEquals( 7, cache.all().size() );
+        assertTrue( cache.all().containsAll( replaced.values() ) );
+    }
+
     @Test
     public void testUpdate() throws Exception {
         assertEquals( 7, cache.all().size() );
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gwt.i18n.client.DateTimeFormat;
+import com.google.gwtmockito.GwtMock;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.models.datamodel.oracle.DataType;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.ExtendedGuidedDecisionTableBuilder;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.UpdateHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.preferences.ApplicationPreferences;
+import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
+import org.mockito.Mock;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class RuleInspectorTest {
+
+    private static final int ROWS = 50;
+
+    private RuleInspectorCache    cache;
+    private GuidedDecisionTable52 table52;
+
+    @Mock
+    private UpdateHandler updateHandler;
+
+    @GwtMock
+    DateTimeFormat dateTimeFormat;
+
+    @Before
+    public void setUp() throws Exception {
+        Map<String, String> preferences = new HashMap<String, String>();
+        preferences.put( ApplicationPreferences.DATE_FORMAT, "dd-MMM-yyyy" );
+        ApplicationPreferences.setUp( preferences );
+
+        final Object[][] data = new Object[ROWS][];
+        for ( int i = 0; i < ROWS; i++ ) {
+            data[i] = new Object[]{i + 1, "description", i % 10, true};
+        }
+
+        table52 = new ExtendedGuidedDecisionTableBuilder( "org.test",
+                                                          new ArrayList<Import>(),
+                                                          "mytable" )
+                .withConditionIntegerColumn( "a", "Person", "age", "==" )
+                .withActionSetField( "a", "approved", DataType.TYPE_BOOLEAN )
+                .withData( data )
+                .build();
+
+        cache = new RuleInspectorCache( mock( AsyncPackageDataModelOracle.class ),
+                                        table52,
+                                        updateHandler );
+    }
+
+    @Test
+    public void testFullPassBuildsOneListPerRow() throws Exception {
+        final Set<Object> conditionsInspectors = Collections.newSetFromMap( new IdentityHashMap<Object, Boolean>() );
+        final Set<Object> actionsInspectors = Collections.newSetFromMap( new IdentityHashMap<Object, Boolean>() );
+
+        for ( final RuleInspector ruleInspector : cache.all() ) {
+            for ( final RuleInspector other : cache.all() ) {
+                if ( !ruleInspector.equals( other ) ) {
+                    ruleInspector.isRedundant( other );
+                    ruleInspector.subsumes( other );
+                    ruleInspector.conflicts( other );
+                    ruleInspector.isDeficient( other );
+
+                    conditionsInspectors.add( ruleInspector.getConditionsInspectors() );
+                    conditionsInspectors.add( other.getConditionsInspectors() );
+                    actionsInspectors.add( ruleInspector.getActionsInspectors() );
+                    actionsInspectors.add( other.getActionsInspectors() );
+                }
+            }
+        }
+
+        assertEquals( ROWS,
+                      conditionsInspectors.size() );
+        assertEquals( ROWS,
+                      actionsInspectors.size() );
+    }
+
+    @Test
+    public void testConditionChangeRebuildsConditionsInspectors() throws Exception {
+        final RuleInspector ruleInspector = getRuleInspector( 3 );
+        final InspectorList<ConditionsInspector> conditionsInspectors = ruleInspector.getConditionsInspectors();
+        final InspectorList<ActionsInspector> actionsInspectors = ruleInspector.getActionsInspectors();
+
+        table52.getData().get( 3 ).get( 2 ).setNumericValue( 100 );
+        update( 3,
+                2 );
+
+        assertNotSame( conditionsInspectors,
+                       ruleInspector.getConditionsInspectors() );
+        assertSame( actionsInspectors,
+                    ruleInspector.getActionsInspectors() );
+        assertSame( getRuleInspector( 4 ).getConditionsInspectors(),
+                    getRuleInspector( 4 ).getConditionsInspectors() );
+    }
+
+    @Test
+    public void testActionChangeRebuildsActionsInspectors() throws Exception {
+        final RuleInspector ruleInspector = getRuleInspector( 3 );
+        final InspectorList<ConditionsInspector> conditionsInspectors = ruleInspector.getConditionsInspectors();
+        final InspectorList<ActionsInspector> actionsInspectors = ruleInspector.getActionsInspectors();
+
+        table52.getData().get( 3 ).get( 3 ).setBooleanValue( false );
+        update( 3,
+                3 );
+
+        assertSame( conditionsInspectors,
+                    ruleInspector.getConditionsInspectors() );
+        assertNotSame( actionsInspectors,
+                       ruleInspector.getActionsInspectors() );
+    }
+
+    @Test
+    public void testRebuiltListsSeeTheNewValue() throws Exception {
+        final RuleInspector ruleInspector = getRuleInspector( 3 );
+        final RuleInspector sameAge = getRuleInspector( 13 );
+
+        assertTrue( ruleInspector.isRedundant( sameAge ) );
+
+        table52.getData().get( 3 ).get( 2 ).setNumericValue( 100 );
+        update( 3,
+                2 );
+
+        assertFalse( ruleInspector.isRedundant( sameAge ) );
+    }
+
+    private void update( final int row,
+                         final int column ) {
+        final List<Coordinate> coordinates = new ArrayList<>();
+        coordinates.add( new Coordinate( row,
+                                         column ) );
+        cache.updateRuleInspectors( coordinates,
+                                    table52 );
+    }
+
+    private RuleInspector getRuleInspector( final int rowIndex ) {
+        for ( final RuleInspector ruleInspector : cache.all() ) {
+            if ( ruleInspector.getRowIndex() == rowIndex ) {
+                return ruleInspector;
+            }
+        }
+        throw new IllegalArgumentException( "No row " + rowIndex );
+    }
+}
@@ -225,4 +225,26 @@ public class UpdateManagerTest {
         verify( updateHandler ).updateCoordinates( coordinateArgumentCaptor.capture() );
         assertTrue( coordinateArgumentCaptor.getValue().isEmpty() );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBatchNotifiesUpdateHandlerOnce() throws Exception {
+        final ArrayList<Coordinate> coordinates = new ArrayList<Coordinate>();
+        final Coordinate condition = new Coordinate( 0, 2 );
+        final Coordinate action = new Coordinate( 0, 3 );
+        final Coordinate unchanged = new Coordinate( 1, 3 );
+        coordinates.add( new Coordinate( 0, 1 ) );
+        coordinates.add( condition );
+        coordinates.add( action );
+        coordinates.add( unchanged );
+        table52.getData().get( 0 ).get( 2 ).setNumericValue( 123 );
+        table52.getData().get( 0 ).get( 3 ).setBooleanValue( false );
+
+        updateManager.update( coordinates );
+
+        verify( updateHandler, times( 1 ) ).updateCoordinates( coordinateArgumentCaptor.capture() );
+        final List<Coordinate> list = coordinateArgumentCaptor.getValue();
+        assertEquals( 2, list.size() );
+        assertTrue( list.contains( condition ) );
+        assertTrue( list.contains( action ) );
+    }
+}
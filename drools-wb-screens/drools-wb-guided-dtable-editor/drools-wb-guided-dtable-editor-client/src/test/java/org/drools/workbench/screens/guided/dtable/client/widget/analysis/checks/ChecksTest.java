@@ -18,6 +18,7 @@ package org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Set;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.CancellableRepeatingCommand;
@@ -155,6 +156,103 @@ public class ChecksTest {
         assertEquals( 3, this.checks.get( newRuleInspector ).size() );
     }
 
+    @Test
+    public void testIssuesOfChecksThatDidNotRunAreKept() throws Exception {
+        this.checks.run( null,
+                         null );
+
+        final Set<Issue> first = this.checks.getIssues();
+        assertEquals( 9, first.size() );
+        assertEquals( first, this.checks.getIssues() );
+
+        RuleInspector newRuleInspector = mockRowInspector( 3 );
+        ruleInspectors.remove( ruleInspector3 );
+        ruleInspectors.add( newRuleInspector );
+
+        this.checks.update( ruleInspector3, newRuleInspector );
+        this.checks.run( null,
+                         null );
+
+        final Set<Issue> second = this.checks.getIssues();
+        assertEquals( 9, second.size() );
+
+        // Only the single checks of rows 1 and 2 and the pair checks between them kept their issue
+        second.retainAll( first );
+        assertEquals( 4, second.size() );
+    }
+
+    @Test
+    public void testOnlyIssuesOfMovedRowsAreResolvedAgain() throws Exception {
+        this.checks.run( null,
+                         null );
+        assertEquals( 9, this.checks.getIssues().size() );
+
+        // Deleting the second row moves the third row up
+        ruleInspectors.remove( ruleInspector2 );
+        ruleInspector3.getRule().setIndex( 2 );
+        this.checks.remove( ruleInspector2 );
+
+        final Set<Issue> issues = this.checks.getIssues();
+        assertEquals( 4, issues.size() );
+
+        // Only the single check of the first row covers no moved row, so its issue was not asked for again
+        int notResolvedAgain = 0;
+        for ( Issue issue : issues ) {
+            if ( "1".equals( issue.getTitle() ) ) {
+                notResolvedAgain++;
+            }
+        }
+        assertEquals( 1, notResolvedAgain );
+    }
+
+    @Test
+    public void testCancelledAnalysisIsResumed() throws Exception {
+        final ArrayList<CancellableRepeatingCommand> commands = new ArrayList<CancellableRepeatingCommand>();
+        final Checks checks = new Checks() {
+            @Override
+            protected ArrayList<Check> makeSingleRowChecks( RuleInspector ruleInspector ) {
+                ArrayList<Check> checks = new ArrayList<Check>();
+                checks.add( new MockSingleCheck( ruleInspector ) );
+                return checks;
+            }
+
+            @Override
+            protected ArrayList<Check> makePairRowChecks( RuleInspector ruleInspector,
+                                                          RuleInspector other ) {
+                ArrayList<Check> checks = new ArrayList<Check>();
+                checks.add( new MockPairCheck( ruleInspector, other ) );
+                return checks;
+            }
+
+            @Override
+            protected void doRun( final CancellableRepeatingCommand command ) {
+                commands.add( command );
+            }
+        };
+        checks.add( ruleInspector1 );
+        checks.add( ruleInspector2 );
+        checks.add( ruleInspector3 );
+
+        // First run is scheduled, but cancelled before it gets to run
+        checks.run( null,
+                    null );
+        checks.remove( ruleInspector3 );
+
+        // Second run picks up the checks the first one did not reach
+        checks.run( null,
+                    null );
+        while ( commands.get( 1 ).execute() ) {
+            //loop
+        }
+
+        for ( Check check : checks.get( ruleInspector1 ) ) {
+            assertTrue( check.hasIssues() );
+        }
+        for ( Check check : checks.get( ruleInspector2 ) ) {
+            assertTrue( check.hasIssues() );
+        }
+    }
+
     private RuleInspector mockRowInspector( final int rowNumber ) {
         return new RuleInspector( new Rule( rowNumber ), cache );
     }
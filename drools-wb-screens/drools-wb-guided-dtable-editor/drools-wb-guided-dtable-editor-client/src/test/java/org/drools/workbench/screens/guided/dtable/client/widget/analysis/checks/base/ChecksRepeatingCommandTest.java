@@ -16,10 +16,16 @@
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base;
 
 import java.util.HashSet;
+import java.util.List;
 
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.Status;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.reporting.Issue;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.uberfire.mvp.ParameterizedCommand;
 
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 public class ChecksRepeatingCommandTest {
@@ -51,4 +57,255 @@ public class ChecksRepeatingCommandTest {
             verify( array[i] ).check();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCheapChecksRunInFewerTicksThanFixedBlocks() throws Exception {
+        final FakeClock clock = new FakeClock();
+        final TimedChecksRepeatingCommand command = new TimedChecksRepeatingCommand( makeChecks( clock,
+                                                                                                 1000,
+                                                                                                 0.05 ),
+                                                                                     clock );
+
+        final Run run = run( command,
+                             clock );
+
+        // A fixed block size of 10 would need 100 ticks
+        assertTrue( "Ticks: " + run.ticks,
+                    run.ticks < 20 );
+        assertTrue( "Worst frame: " + run.worstFrame,
+                    run.worstFrame <= ChecksRepeatingCommand.DEFAULT_TIME_BUDGET * 2 );
+    }
+
+    @Test
+    public void testExpensiveChecksStayWithinTheTimeBudget() throws Exception {
+        final FakeClock clock = new FakeClock();
+        final TimedChecksRepeatingCommand command = new TimedChecksRepeatingCommand( makeChecks( clock,
+                                                                                                 100,
+                                                                                                 5 ),
+                                                                                     clock );
+
+        final Run run = run( command,
+                             clock );
+
+        // A fixed block size of 10 would block for 50 ms per tick
+        assertTrue( "Worst frame: " + run.worstFrame,
+                    run.worstFrame <= 10 );
+        assertEquals( 1,
+                      command.getBlockSize() );
+    }
+
+    @Test
+    public void testStatusReportsChecksPerSecond() throws Exception {
+        final FakeClock clock = new FakeClock();
+        final ParameterizedCommand<Status> onStatus = mock( ParameterizedCommand.class );
+        final TimedChecksRepeatingCommand command = new TimedChecksRepeatingCommand( makeChecks( clock,
+                                                                                                 100,
+                                                                                                 1 ),
+                                                                                     onStatus,
+                                                                                     clock );
+
+        command.execute();
+
+        final ArgumentCaptor<Status> captor = ArgumentCaptor.forClass( Status.class );
+        verify( onStatus ).execute( captor.capture() );
+        assertEquals( 0,
+                      captor.getValue().getStart() );
+        assertEquals( 8,
+                      captor.getValue().getEnd() );
+        assertEquals( 1000,
+                      captor.getValue().getChecksPerSecond() );
+    }
+
+    @Test
+    public void testPendingChecks() throws Exception {
+        final FakeClock clock = new FakeClock();
+        final HashSet<Check> checks = makeChecks( clock,
+                                                  100,
+                                                  1 );
+        final TimedChecksRepeatingCommand command = new TimedChecksRepeatingCommand( checks,
+                                                                                     clock );
+
+        assertEquals( 100,
+                      command.getPendingChecks().size() );
+
+        command.execute();
+        command.cancel();
+
+        final List<Check> pendingChecks = command.getPendingChecks();
+        assertEquals( 92,
+                      pendingChecks.size() );
+        assertTrue( checks.containsAll( pendingChecks ) );
+
+        assertFalse( command.execute() );
+        assertTrue( command.getPendingChecks().isEmpty() );
+    }
+
+    @Test
+    public void testStatisticsTimeEveryCheck() throws Exception {
+        final FakeClock clock = new FakeClock();
+        final HashSet<Check> checks = makeChecks( clock,
+                                                  10,
+                                                  0.5 );
+        checks.addAll( makeChecks( clock,
+                                   5,
+                                   5 ) );
+        final ChecksStatistics statistics = new ChecksStatistics();
+        final TimedChecksRepeatingCommand command = new TimedChecksRepeatingCommand( checks,
+                                                                                     statistics,
+                                                                                     clock );
+
+        run( command,
+             clock );
+
+        assertEquals( 15,
+                      statistics.getCount( TimedCheck.class ) );
+        assertArrayEquals( new int[]{10, 0, 5, 0},
+                           statistics.getHistogram( TimedCheck.class ) );
+    }
+
+    @Test
+    public void testCancelledCommandLeavesTheStatisticsOfTheNextRun() throws Exception {
+        final FakeClock clock = new FakeClock();
+        final ChecksStatistics statistics = new ChecksStatistics();
+        final HashSet<Check> checks = makeChecks( clock,
+                                                  100,
+                                                  1 );
+        statistics.created( 100 );
+        statistics.started( 100,
+                            100 );
+        final TimedChecksRepeatingCommand cancelled = new TimedChecksRepeatingCommand( checks,
+                                                                                       statistics,
+                                                                                       clock );
+        cancelled.execute();
+        cancelled.cancel();
+
+        //The next run takes the checks the cancelled one did not reach, and the checks of a new row
+        final HashSet<Check> nextChecks = new HashSet<Check>( cancelled.getPendingChecks() );
+        nextChecks.addAll( makeChecks( clock,
+                                       10,
+                                       1 ) );
+        statistics.created( 10 );
+        statistics.started( nextChecks.size(),
+                            110 );
+        final TimedChecksRepeatingCommand next = new TimedChecksRepeatingCommand( nextChecks,
+                                                                                  statistics,
+                                                                                  clock );
+
+        //The scheduler still calls the cancelled command once, after the next run started
+        assertFalse( cancelled.execute() );
+        assertEquals( 110,
+                      statistics.getCreated() );
+        assertEquals( 0,
+                      statistics.getCount( TimedCheck.class ) );
+
+        run( next,
+             clock );
+
+        assertEquals( 102,
+                      statistics.getCount( TimedCheck.class ) );
+        assertEquals( 0,
+                      statistics.getRerun() );
+    }
+
+    private Run run( final ChecksRepeatingCommand command,
+                     final FakeClock clock ) {
+        final Run run = new Run();
+        boolean more = true;
+        while ( more ) {
+            final double start = clock.time;
+            more = command.execute();
+            run.ticks++;
+            run.worstFrame = Math.max( run.worstFrame,
+                                       clock.time - start );
+        }
+        return run;
+    }
+
+    private HashSet<Check> makeChecks( final FakeClock clock,
+                                       final int amount,
+                                       final double cost ) {
+        final HashSet<Check> checks = new HashSet<>();
+        for ( int i = 0; i < amount; i++ ) {
+            checks.add( new TimedCheck( clock,
+                                        cost ) );
+        }
+        return checks;
+    }
+
+    private static class Run {
+
+        int    ticks      = 0;
+        double worstFrame = 0;
+    }
+
+    private static class FakeClock {
+
+        double time = 0;
+    }
+
+    private static class TimedCheck
+            implements Check {
+
+        private final FakeClock clock;
+        private final double    cost;
+
+        TimedCheck( final FakeClock clock,
+                    final double cost ) {
+            this.clock = clock;
+            this.cost = cost;
+        }
+
+        @Override
+        public void check() {
+            clock.time += cost;
+        }
+
+        @Override
+        public Issue getIssue() {
+            return null;
+        }
+
+        @Override
+        public boolean hasIssues() {
+            return false;
+        }
+    }
+
+    private static class TimedChecksRepeatingCommand
+            extends ChecksRepeatingCommand {
+
+        private final FakeClock clock;
+
+        TimedChecksRepeatingCommand( final HashSet<Check> checks,
+                                     final FakeClock clock ) {
+            this( checks,
+                  null,
+                  clock );
+        }
+
+        TimedChecksRepeatingCommand( final HashSet<Check> checks,
+                                     final ParameterizedCommand<Status> onStatus,
+                                     final FakeClock clock ) {
+            super( checks,
+                   onStatus,
+                   null );
+            this.clock = clock;
+        }
+
+        TimedChecksRepeatingCommand( final HashSet<Check> checks,
+                                     final ChecksStatistics statistics,
+                                     final FakeClock clock ) {
+            super( checks,
+                   null,
+                   null,
+                   DEFAULT_TIME_BUDGET,
+                   statistics );
+            this.clock = clock;
+        }
+
+        @Override
+        protected double now() {
+            return clock.time;
+        }
+    }
+}
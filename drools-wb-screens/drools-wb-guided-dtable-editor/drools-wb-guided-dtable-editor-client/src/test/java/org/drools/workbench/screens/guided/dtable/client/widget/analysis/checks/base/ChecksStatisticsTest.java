@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.checks.base;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ChecksStatisticsTest {
+
+    private ChecksStatistics statistics;
+
+    @Before
+    public void setUp() throws Exception {
+        statistics = new ChecksStatistics();
+    }
+
+    @Test
+    public void testHistogramBuckets() throws Exception {
+        final Check check = mock( Check.class );
+
+        statistics.checked( check, 0 );
+        statistics.checked( check, 0.9 );
+        statistics.checked( check, 1 );
+        statistics.checked( check, 15 );
+        statistics.checked( check, 16 );
+        statistics.checked( check, 100 );
+
+        assertEquals( 6,
+                      statistics.getCount( check.getClass() ) );
+        assertArrayEquals( new int[]{2, 1, 1, 2},
+                           statistics.getHistogram( check.getClass() ) );
+    }
+
+    @Test
+    public void testCounts() throws Exception {
+        statistics.created( 10 );
+        statistics.created( 5 );
+        statistics.started( 20,
+                            100 );
+        statistics.started( 18,
+                            80 );
+
+        assertEquals( 15,
+                      statistics.getCreated() );
+        //The created checks are queued too, they are not counted as run again
+        assertEquals( 3,
+                      statistics.getRerun() );
+        assertEquals( 100,
+                      statistics.getPeakLiveChecks() );
+
+        statistics.completed();
+
+        assertEquals( 0,
+                      statistics.getCreated() );
+    }
+
+    @Test
+    public void testStartingClearsTimings() throws Exception {
+        final Check check = mock( Check.class );
+        statistics.checked( check, 2 );
+
+        statistics.started( 1,
+                            1 );
+
+        assertEquals( 0,
+                      statistics.getCount( check.getClass() ) );
+    }
+}
@@ -117,6 +117,28 @@ public class AnalysisReportScreenTest {
         verify( view ).show( issue2 );
     }
 
+    @Test
+    public void testSameIssuesKeepTheSelection() throws Exception {
+        Issue issue1 = new Issue( Severity.WARNING, "something" );
+        Issue issue2 = new Issue( Severity.WARNING, "something else" );
+        PlaceRequest place = mock( PlaceRequest.class );
+
+        screen.showReport( getAnalysis( place, issue1, issue2 ) );
+        screen.onSelect( issue2 );
+
+        screen.showReport( getAnalysis( place, issue1, issue2 ) );
+
+        verify( view, times( 1 ) ).show( issue1 );
+        verify( view, times( 1 ) ).show( issue2 );
+        assertEquals( 2, dataProvider.getList().size() );
+
+        Issue issue3 = new Issue( Severity.ERROR, "something new" );
+        screen.showReport( getAnalysis( place, issue1, issue2, issue3 ) );
+
+        verify( view ).show( issue3 );
+        assertEquals( 3, dataProvider.getList().size() );
+    }
+
     @Test
     public void testDTableCloses() throws Exception {
         Issue issue1 = new Issue( Severity.WARNING, "something" );
@@ -23,6 +23,7 @@ import java.util.Set;
 import javax.enterprise.event.Event;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.datamodel.oracle.DropDownData;
 import org.drools.workbench.models.datamodel.workitems.PortableWorkDefinition;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.client.editor.clipboard.Clipboard;
@@ -42,6 +43,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.model.conv
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.impl.GridWidgetColumnFactoryImpl;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.linkmanager.GuidedDecisionTableLinkManager;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.DependentEnumsUtilities;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
 import org.guvnor.common.services.shared.metadata.model.Overview;
 import org.jboss.errai.common.client.api.Caller;
@@ -59,6 +61,7 @@ import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOr
 import org.mockito.Mock;
 import org.uberfire.backend.vfs.ObservablePath;
 import org.uberfire.backend.vfs.Path;
+import org.uberfire.client.callbacks.Callback;
 import org.uberfire.client.mvp.UpdatedLockStatusEvent;
 import org.uberfire.mocks.CallerMock;
 import org.uberfire.mocks.EventSourceMock;
@@ -125,6 +128,9 @@ public class GuidedDecisionTablePresenterTest {
     @Mock
     private GuidedDecisionTableView view;
 
+    @Mock
+    private AsyncPackageDataModelOracle dmo;
+
     private GuidedDecisionTablePresenter dtPresenter;
     private GuidedDecisionTableEditorContent dtContent;
 
@@ -192,7 +198,6 @@ public class GuidedDecisionTablePresenterTest {
         dtPresenter = spy( wrapped );
 
         final GuidedDecisionTable52 model = new GuidedDecisionTable52();
-        final AsyncPackageDataModelOracle dmo = mock( AsyncPackageDataModelOracle.class );
         final PackageDataModelOracleBaselinePayload dmoBaseline = mock( PackageDataModelOracleBaselinePayload.class );
         final Set<PortableWorkDefinition> workItemDefinitions = Collections.emptySet();
         final Overview overview = mock( Overview.class );
@@ -268,4 +273,66 @@ public class GuidedDecisionTablePresenterTest {
                 times( 1 ) ).fireChangeTitleEvent();
     }
 
+    @Test
+    public void testGetEnumLookupsCachesFixedLists() {
+        final DependentEnumsUtilities.Context context = setupEnumLookups( DropDownData.create( new String[]{ "a", "b" } ) );
+        final Callback<Map<String, String>> callback = mock( Callback.class );
+
+        dtPresenter.getEnumLookups( "Person",
+                                    "name",
+                                    context,
+                                    callback );
+        dtPresenter.getEnumLookups( "Person",
+                                    "name",
+                                    context,
+                                    callback );
+
+        verify( dmo,
+                times( 1 ) ).getEnums( eq( "Person" ),
+                                       eq( "name" ),
+                                       any( Map.class ) );
+        verify( callback,
+                times( 2 ) ).callback( any( Map.class ) );
+    }
+
+    @Test
+    public void testGetEnumLookupsDoesNotCacheQueryExpressions() {
+        final DropDownData dropDownData = mock( DropDownData.class );
+        when( dropDownData.getQueryExpression() ).thenReturn( "expression" );
+        when( dropDownData.getValuePairs() ).thenReturn( new String[ 0 ] );
+        final DependentEnumsUtilities.Context context = setupEnumLookups( dropDownData );
+        when( enumDropdownService.loadDropDownExpression( any( Path.class ),
+                                                          any( String[].class ),
+                                                          any( String.class ) ) ).thenReturn( new String[]{ "a", "b" } );
+        final Callback<Map<String, String>> callback = mock( Callback.class );
+
+        dtPresenter.getEnumLookups( "Person",
+                                    "name",
+                                    context,
+                                    callback );
+        dtPresenter.getEnumLookups( "Person",
+                                    "name",
+                                    context,
+                                    callback );
+
+        //The query reads data outside the table, which can change while the table is open
+        verify( enumDropdownService,
+                times( 2 ) ).loadDropDownExpression( any( Path.class ),
+                                                     any( String[].class ),
+                                                     any( String.class ) );
+        verify( callback,
+                times( 2 ) ).callback( any( Map.class ) );
+    }
+
+    private DependentEnumsUtilities.Context setupEnumLookups( final DropDownData dropDownData ) {
+        final DependentEnumsUtilities.Context context = new DependentEnumsUtilities.Context( 0,
+                                                                                             0 );
+        dtPresenter.dependentEnumsUtilities = mock( DependentEnumsUtilities.class );
+        when( dtPresenter.dependentEnumsUtilities.getCurrentValueMap( context ) ).thenReturn( new HashMap<String, String>() );
+        when( dmo.getEnums( eq( "Person" ),
+                            eq( "name" ),
+                            any( Map.class ) ) ).thenReturn( dropDownData );
+        return context;
+    }
+
 }
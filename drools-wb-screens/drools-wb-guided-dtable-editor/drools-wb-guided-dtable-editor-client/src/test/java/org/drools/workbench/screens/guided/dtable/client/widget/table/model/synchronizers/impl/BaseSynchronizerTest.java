@@ -53,6 +53,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.model.conv
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.impl.RowNumberColumnConverter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.Synchronizer;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.CellUtilities;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnIndexes;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.ColumnUtilities;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.DependentEnumsUtilities;
 import org.junit.Before;
@@ -69,9 +70,11 @@ public abstract class BaseSynchronizerTest {
 
     protected GuidedDecisionTable52 model;
     protected GuidedDecisionTableUiModel uiModel;
+    protected ColumnIndexes columnIndexes;
     protected ModelSynchronizerImpl modelSynchronizer = new ModelSynchronizerImpl();
     protected GridWidgetColumnFactory gridWidgetColumnFactory = new GridWidgetColumnFactoryImpl();
     protected AsyncPackageDataModelOracle oracle = getOracle();
+    protected EventBus eventBus = mock( EventBus.class );
 
     private GuidedDecisionTablePresenter.Access editable = new GuidedDecisionTablePresenter.Access();
 
@@ -89,8 +92,11 @@ public abstract class BaseSynchronizerTest {
         final CellUtilities cellUtilities = new CellUtilities();
         final ColumnUtilities columnUtilities = new ColumnUtilities( model,
                                                                      oracle );
+        columnIndexes = new ColumnIndexes( model,
+                                           uiModel );
         final DependentEnumsUtilities enumsUtilities = new DependentEnumsUtilities( model,
-                                                                                    oracle );
+                                                                                    oracle,
+                                                                                    columnIndexes );
         final GridWidgetCellFactory gridWidgetCellFactory = new GridWidgetCellFactoryImpl();
 
         //Setup mocks
@@ -100,7 +106,6 @@ public abstract class BaseSynchronizerTest {
         final AbsolutePanel domElementContainer = mock( AbsolutePanel.class );
         final GuidedDecisionTableView.Presenter dtablePresenter = mock( GuidedDecisionTableView.Presenter.class );
         final GuidedDecisionTableView view = mock( GuidedDecisionTableView.class );
-        final EventBus eventBus = mock( EventBus.class );
 
         when( dtablePresenter.getModellerPresenter() ).thenReturn( modellerPresenter );
         when( modellerPresenter.getView() ).thenReturn( modellerView );
@@ -125,6 +130,7 @@ public abstract class BaseSynchronizerTest {
                                       uiModel,
                                       cellUtilities,
                                       columnUtilities,
+                                      columnIndexes,
                                       enumsUtilities,
                                       gridWidgetCellFactory,
                                       gridWidgetColumnFactory,
@@ -16,13 +16,18 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.impl;
 
+import com.google.gwt.event.shared.GwtEvent;
+import org.drools.workbench.models.guided.dtable.shared.model.MetadataCol52;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.ValidateEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer;
 import org.junit.Test;
 import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
 import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracleImpl;
+import org.mockito.ArgumentCaptor;
 import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCellValue;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 public class ModelSynchronizerTest extends BaseSynchronizerTest {
 
@@ -68,4 +73,69 @@ public class ModelSynchronizerTest extends BaseSynchronizerTest {
                                      1 ) );
     }
 
+    @Test
+    public void testBatchIsValidatedOnce() throws ModelSynchronizer.MoveColumnVetoException {
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        reset( eventBus );
+
+        modelSynchronizer.beginBatch();
+        uiModel.setCell( 0,
+                         1,
+                         new BaseGridCellValue<String>( "value" ) );
+        uiModel.setCell( 1,
+                         1,
+                         new BaseGridCellValue<String>( "value" ) );
+        uiModel.deleteCell( 0,
+                            1 );
+
+        verify( eventBus,
+                never() ).fireEvent( any( GwtEvent.class ) );
+
+        modelSynchronizer.endBatch();
+
+        final ArgumentCaptor<GwtEvent> eventCaptor = ArgumentCaptor.forClass( GwtEvent.class );
+        verify( eventBus ).fireEvent( eventCaptor.capture() );
+        assertTrue( eventCaptor.getValue() instanceof ValidateEvent );
+        assertEquals( 3,
+                      ( (ValidateEvent) eventCaptor.getValue() ).getUpdates().size() );
+    }
+
+    @Test
+    public void testEmptyBatchIsNotValidated() throws ModelSynchronizer.MoveColumnVetoException {
+        modelSynchronizer.beginBatch();
+        modelSynchronizer.endBatch();
+
+        verify( eventBus,
+                never() ).fireEvent( any( GwtEvent.class ) );
+    }
+
+    @Test
+    public void testColumnIndexesFollowColumnChanges() throws ModelSynchronizer.MoveColumnVetoException {
+        final MetadataCol52 column1 = new MetadataCol52();
+        column1.setMetadata( "smurf" );
+        final MetadataCol52 column2 = new MetadataCol52();
+        column2.setMetadata( "gargamel" );
+
+        modelSynchronizer.appendColumn( column1 );
+        assertEquals( 2,
+                      columnIndexes.getModelColumnIndex( column1 ) );
+        assertEquals( 2,
+                      columnIndexes.getUiColumnIndex( 2 ) );
+
+        modelSynchronizer.appendColumn( column2 );
+        assertEquals( 3,
+                      columnIndexes.getModelColumnIndex( column2 ) );
+        assertSame( column2,
+                    columnIndexes.getColumn( 3 ) );
+
+        modelSynchronizer.deleteColumn( column1 );
+        assertEquals( -1,
+                      columnIndexes.getModelColumnIndex( column1 ) );
+        assertEquals( 2,
+                      columnIndexes.getModelColumnIndex( column2 ) );
+        assertEquals( 3,
+                      columnIndexes.getColumns().size() );
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.utilities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EnumLookupsCacheTest {
+
+    private final EnumLookupsCache cache = new EnumLookupsCache( 2 );
+
+    @Test
+    public void testLookupsAreKeyedOnTheValuesInScope() {
+        final Map<String, String> lookups = new HashMap<String, String>();
+        cache.put( "Car",
+                   "model",
+                   values( "make",
+                           "Ford" ),
+                   lookups );
+
+        assertSame( lookups,
+                    cache.get( "Car",
+                               "model",
+                               values( "make",
+                                       "Ford" ) ) );
+        assertNull( cache.get( "Car",
+                               "model",
+                               values( "make",
+                                       "Fiat" ) ) );
+        assertNull( cache.get( "Car",
+                               "colour",
+                               values( "make",
+                                       "Ford" ) ) );
+        assertNull( cache.get( "Bus",
+                               "model",
+                               values( "make",
+                                       "Ford" ) ) );
+    }
+
+    @Test
+    public void testLeastRecentlyUsedLookupsAreDropped() {
+        final Map<String, String> ford = new HashMap<String, String>();
+        final Map<String, String> fiat = new HashMap<String, String>();
+        final Map<String, String> audi = new HashMap<String, String>();
+        cache.put( "Car",
+                   "model",
+                   values( "make",
+                           "Ford" ),
+                   ford );
+        cache.put( "Car",
+                   "model",
+                   values( "make",
+                           "Fiat" ),
+                   fiat );
+
+        //Use Ford so Fiat is the least recently used
+        cache.get( "Car",
+                   "model",
+                   values( "make",
+                           "Ford" ) );
+        cache.put( "Car",
+                   "model",
+                   values( "make",
+                           "Audi" ),
+                   audi );
+
+        assertSame( ford,
+                    cache.get( "Car",
+                               "model",
+                               values( "make",
+                                       "Ford" ) ) );
+        assertNull( cache.get( "Car",
+                               "model",
+                               values( "make",
+                                       "Fiat" ) ) );
+        assertSame( audi,
+                    cache.get( "Car",
+                               "model",
+                               values( "make",
+                                       "Audi" ) ) );
+    }
+
+    private Map<String, String> values( final String field,
+                                        final String value ) {
+        final Map<String, String> values = new HashMap<String, String>();
+        values.put( field,
+                    value );
+        return values;
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.guided.dtable.client.wizard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.datamodel.rule.BaseSingleFieldConstraint;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionSetFieldCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.LimitedEntryConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.drools.workbench.screens.guided.dtable.client.handlers.NewGuidedDecisionTableHandler;
+import org.drools.workbench.screens.guided.dtable.client.wizard.pages.ActionInsertFactFieldsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.pages.ActionSetFieldsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.pages.ColumnExpansionPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.pages.FactPatternConstraintsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.pages.FactPatternsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.pages.ImportsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.pages.SummaryPage;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.ext.widgets.core.client.wizards.WizardView;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class NewGuidedDecisionTableWizardTest {
+
+    //Each limited entry condition has two values, 2^14 rows is more than the wizard creates
+    private static final int CONDITION_COUNT = 14;
+
+    @Mock
+    private SummaryPage summaryPage;
+    @Mock
+    private ImportsPage importsPage;
+    @Mock
+    private ColumnExpansionPage columnExpansionPage;
+    @Mock
+    private FactPatternsPage factPatternsPage;
+    @Mock
+    private FactPatternConstraintsPage factPatternConstraintsPage;
+    @Mock
+    private ActionSetFieldsPage actionSetFieldsPage;
+    @Mock
+    private ActionInsertFactFieldsPage actionInsertFactFieldsPage;
+    @Mock
+    private WizardView view;
+
+    @Mock
+    private NewGuidedDecisionTableHandler handler;
+
+    @InjectMocks
+    NewGuidedDecisionTableWizardWithConfirmOverride wizard;
+
+    private final List<ConditionCol52> conditions = new ArrayList<ConditionCol52>();
+    private GuidedDecisionTable52 model;
+
+    @Before
+    public void setUp() throws Exception {
+        when( columnExpansionPage.getColumnsToExpand() ).thenReturn( conditions );
+
+        //The pages add the columns the user chose to the decision table
+        doAnswer( new Answer<Void>() {
+            @Override
+            public Void answer( final InvocationOnMock invocation ) throws Throwable {
+                model = ( GuidedDecisionTable52 ) invocation.getArguments()[ 0 ];
+
+                final Pattern52 pattern = new Pattern52();
+                pattern.setBoundName( "$d" );
+                pattern.setFactType( "Driver" );
+                for ( int i = 0; i < CONDITION_COUNT; i++ ) {
+                    final LimitedEntryConditionCol52 condition = new LimitedEntryConditionCol52();
+                    condition.setFactField( "name" );
+                    condition.setOperator( "==" );
+                    condition.setConstraintValueType( BaseSingleFieldConstraint.TYPE_LITERAL );
+                    pattern.getChildColumns().add( condition );
+                    conditions.add( condition );
+                }
+                model.getConditions().add( pattern );
+                return null;
+            }
+        } ).when( factPatternConstraintsPage ).makeResult( any( GuidedDecisionTable52.class ) );
+        doAnswer( new Answer<Void>() {
+            @Override
+            public Void answer( final InvocationOnMock invocation ) throws Throwable {
+                final ActionSetFieldCol52 action = new ActionSetFieldCol52();
+                action.setBoundName( "$d" );
+                action.setFactField( "approved" );
+                ( ( GuidedDecisionTable52 ) invocation.getArguments()[ 0 ] ).getActionCols().add( action );
+                return null;
+            }
+        } ).when( actionSetFieldsPage ).makeResult( any( GuidedDecisionTable52.class ) );
+
+        wizard.setupPages();
+        wizard.setContent( mock( Path.class ),
+                           "table",
+                           GuidedDecisionTable52.TableFormat.LIMITED_ENTRY,
+                           mock( AsyncPackageDataModelOracle.class ),
+                           handler );
+    }
+
+    @Test
+    public void testTooManyRowsAreLimitedWhenConfirmed() throws Exception {
+        wizard.confirm = true;
+
+        wizard.complete();
+
+        assertEquals( 16384,
+                      wizard.confirmedRowCount );
+
+        final ArgumentCaptor<GuidedDecisionTable52> modelCaptor = ArgumentCaptor.forClass( GuidedDecisionTable52.class );
+        verify( handler ).save( any( Path.class ),
+                                any( String.class ),
+                                modelCaptor.capture() );
+        assertEquals( NewGuidedDecisionTableWizard.MAX_ROW_COUNT,
+                      modelCaptor.getValue().getData().size() );
+    }
+
+    @Test
+    public void testTooManyRowsAbortWhenCancelled() throws Exception {
+        wizard.confirm = false;
+
+        wizard.complete();
+
+        assertEquals( 16384,
+                      wizard.confirmedRowCount );
+        verify( handler,
+                never() ).save( any( Path.class ),
+                                any( String.class ),
+                                any( GuidedDecisionTable52.class ) );
+        assertTrue( model.getData().isEmpty() );
+
+        //The action columns are added again when the user completes the wizard again
+        assertTrue( model.getActionCols().isEmpty() );
+    }
+
+    public static class NewGuidedDecisionTableWizardWithConfirmOverride extends NewGuidedDecisionTableWizard {
+
+        private boolean confirm;
+        private long    confirmedRowCount = 0;
+
+        @Override
+        protected boolean confirmTooManyRows( final long rowCount ) {
+            // override needed as Window.confirm can not be answered in a test
+            confirmedRowCount = rowCount;
+            return confirm;
+        }
+    }
+}
@@ -1415,6 +1415,86 @@ public class RowExpanderTests {
                       rows.get( 1 ).get( 2 ).getStringValue() );
     }
 
+    @Test
+    public void testRowCountAndMaxRowCount() {
+        GuidedDecisionTable52 model = new GuidedDecisionTable52();
+
+        final ProjectDataModelOracle projectLoader = ProjectDataModelOracleBuilder.newProjectOracleBuilder()
+                .addFact( "Driver" )
+                .addField( new ModelField( "name",
+                                           String.class.getName(),
+                                           ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                                           ModelField.FIELD_ORIGIN.DECLARED,
+                                           FieldAccessorsAndMutators.BOTH,
+                                           DataType.TYPE_STRING ) )
+                .end()
+                .build();
+
+        final PackageDataModelOracle packageLoader = PackageDataModelOracleBuilder.newPackageOracleBuilder()
+                .setProjectOracle( projectLoader )
+                .build();
+
+        //Emulate server-to-client conversions
+        final AsyncPackageDataModelOracle oracle = new AsyncPackageDataModelOracleImpl();
+        final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
+        dataModel.setModelFields( projectLoader.getProjectModelFields() );
+        dataModel.setWorkbenchEnumDefinitions( packageLoader.getPackageWorkbenchDefinitions() );
+        populateDataModelOracle( mock( Path.class ),
+                                 model,
+                                 oracle,
+                                 dataModel );
+
+        Pattern52 p1 = new Pattern52();
+        p1.setBoundName( "c1" );
+        p1.setFactType( "Driver" );
+
+        ConditionCol52 c1 = new ConditionCol52();
+        c1.setFactField( "name" );
+        c1.setOperator( "==" );
+        c1.setConstraintValueType( BaseSingleFieldConstraint.TYPE_LITERAL );
+        c1.setValueList( "c1a,c1b,c1c" );
+        p1.getChildColumns().add( c1 );
+
+        ConditionCol52 c2 = new ConditionCol52();
+        c2.setFactField( "name" );
+        c2.setOperator( "!=" );
+        c2.setConstraintValueType( BaseSingleFieldConstraint.TYPE_LITERAL );
+        c2.setValueList( "c2a,c2b,c2c,c2d" );
+        p1.getChildColumns().add( c2 );
+        model.getConditions().add( p1 );
+
+        RowExpander re = new RowExpander( model,
+                                          oracle );
+
+        assertEquals( 12,
+                      re.getRowCount() );
+
+        re.setExpandColumn( c2,
+                            false );
+        assertEquals( 3,
+                      re.getRowCount() );
+
+        re.setExpandColumn( c2,
+                            true );
+        re.setMaxRowCount( 5 );
+        assertEquals( 12,
+                      re.getRowCount() );
+
+        RowExpander.RowIterator i = re.iterator();
+        List<List<DTCellValue52>> rows = new ArrayList<List<DTCellValue52>>();
+        while ( i.hasNext() ) {
+            List<DTCellValue52> row = i.next();
+            rows.add( row );
+        }
+
+        assertEquals( 5,
+                      rows.size() );
+        assertEquals( "c1b",
+                      rows.get( 4 ).get( 2 ).getStringValue() );
+        assertEquals( "c2a",
+                      rows.get( 4 ).get( 3 ).getStringValue() );
+    }
+
     @Test
     @SuppressWarnings("serial")
     public void testRowExpansionWithValuesList2() {
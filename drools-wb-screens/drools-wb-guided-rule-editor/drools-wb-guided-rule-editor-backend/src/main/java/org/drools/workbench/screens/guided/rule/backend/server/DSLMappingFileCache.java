@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.rule.backend.server;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.drools.compiler.lang.Expander;
+import org.drools.compiler.lang.dsl.DSLMappingFile;
+import org.drools.compiler.lang.dsl.DSLTokenizedMappingFile;
+import org.drools.compiler.lang.dsl.DefaultExpander;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parsed DSL definitions, shared by the Source Services of all assets using DSLs. A parsed definition is
+ * keyed on the content of the DSL file, so a changed file is parsed again and the mapping of its old
+ * content is dropped once it is the least recently used.
+ */
+@ApplicationScoped
+public class DSLMappingFileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger( DSLMappingFileCache.class );
+
+    public static final int DEFAULT_MAX_SIZE = 200;
+
+    private final Map<String, DSLMappingFile> dsls;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    public DSLMappingFileCache() {
+        this( DEFAULT_MAX_SIZE );
+    }
+
+    public DSLMappingFileCache( final int maxSize ) {
+        this.dsls = new LinkedHashMap<String, DSLMappingFile>( 16,
+                                                               0.75f,
+                                                               true ) {
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry<String, DSLMappingFile> eldest ) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns an expander for DSLs (only if there is a DSL configured for the package). Expanders hold
+     * state while expanding, so a new one is returned for each call; only the parsed DSLs are shared.
+     * @param dslDefinitions The content of the DSL files of a package
+     */
+    public Expander getDSLExpander( final List<String> dslDefinitions ) {
+        final Expander expander = new DefaultExpander();
+        for ( DSLMappingFile dsl : getDSLMappingFiles( dslDefinitions ) ) {
+            expander.addDSLMapping( dsl.getMapping() );
+        }
+        return expander;
+    }
+
+    /**
+     * @param dslDefinitions The content of the DSL files of a package
+     * @return The parsed DSLs. Definitions that cannot be parsed are logged the first time and skipped.
+     */
+    public List<DSLMappingFile> getDSLMappingFiles( final List<String> dslDefinitions ) {
+        final List<DSLMappingFile> dsls = new ArrayList<DSLMappingFile>();
+        for ( final String dslDefinition : dslDefinitions ) {
+            final DSLMappingFile dsl = getDSLMappingFile( dslDefinition );
+            if ( dsl != null ) {
+                dsls.add( dsl );
+            }
+        }
+        return dsls;
+    }
+
+    private DSLMappingFile getDSLMappingFile( final String dslDefinition ) {
+        synchronized ( this ) {
+            //Definitions that cannot be parsed are kept as null, so they are not parsed and logged on every call
+            if ( dsls.containsKey( dslDefinition ) ) {
+                hits++;
+                return dsls.get( dslDefinition );
+            }
+            misses++;
+        }
+
+        //Parse outside the lock; two threads parsing the same new definition both store an equal mapping
+        final DSLMappingFile dsl = parse( dslDefinition );
+        synchronized ( this ) {
+            dsls.put( dslDefinition,
+                      dsl );
+        }
+        return dsl;
+    }
+
+    private DSLMappingFile parse( final String dslDefinition ) {
+        final DSLTokenizedMappingFile dslFile = new DSLTokenizedMappingFile();
+        try {
+            if ( dslFile.parseAndLoad( new StringReader( dslDefinition ) ) ) {
+                return dslFile;
+            } else {
+                logger.error( "Unable to parse DSL definition: " + dslDefinition );
+            }
+        } catch ( IOException ioe ) {
+            logger.error( ioe.getMessage() );
+        }
+        return null;
+    }
+
+    /**
+     * @return Number of DSL definitions found already parsed
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Number of DSL definitions that had to be parsed
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        dsls.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    synchronized int size() {
+        return dsls.size();
+    }
+
+}
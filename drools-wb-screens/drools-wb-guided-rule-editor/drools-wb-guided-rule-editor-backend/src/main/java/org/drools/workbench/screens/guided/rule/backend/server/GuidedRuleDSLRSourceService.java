@@ -16,42 +16,24 @@
 
 package org.drools.workbench.screens.guided.rule.backend.server;
 
-import java.io.IOException;
-import java.io.StringReader;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.Arrays;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
-import javax.inject.Named;
 
 import org.drools.compiler.lang.Expander;
-import org.drools.compiler.lang.dsl.DSLMappingFile;
-import org.drools.compiler.lang.dsl.DSLTokenizedMappingFile;
-import org.drools.compiler.lang.dsl.DefaultExpander;
 import org.drools.workbench.models.commons.backend.rule.RuleModelDRLPersistenceImpl;
 import org.drools.workbench.models.datamodel.rule.RuleModel;
 import org.drools.workbench.screens.guided.rule.service.GuidedRuleEditorService;
 import org.drools.workbench.screens.guided.rule.type.GuidedRuleDSLRResourceTypeDefinition;
-import org.guvnor.common.services.backend.file.FileDiscoveryService;
-import org.kie.workbench.common.services.backend.file.DSLFileFilter;
 import org.kie.workbench.common.services.backend.source.BaseSourceService;
-import org.kie.workbench.common.services.shared.project.KieProjectService;
 import org.kie.workbench.common.services.shared.source.SourceGenerationFailedException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.uberfire.backend.server.util.Paths;
-import org.uberfire.io.IOService;
 import org.uberfire.java.nio.file.Path;
 
 @ApplicationScoped
 public class GuidedRuleDSLRSourceService
         extends BaseSourceService<RuleModel> {
 
-    private static final Logger logger = LoggerFactory.getLogger( GuidedRuleDSLRSourceService.class );
-
-    private static final DSLFileFilter FILTER_DSLS = new DSLFileFilter();
-
     @Inject
     private GuidedRuleDSLRResourceTypeDefinition resourceType;
 
@@ -59,14 +41,10 @@ public class GuidedRuleDSLRSourceService
     private GuidedRuleEditorService guidedRuleEditorService;
 
     @Inject
-    @Named("ioStrategy")
-    private IOService ioService;
-
-    @Inject
-    private FileDiscoveryService fileDiscoveryService;
+    private GuidedRuleEditorServiceUtilities utilities;
 
     @Inject
-    private KieProjectService projectService;
+    private DSLMappingFileCache dslMappingFileCache;
 
     @Override
     public String getPattern() {
@@ -97,35 +75,7 @@ public class GuidedRuleDSLRSourceService
      * Returns an expander for DSLs (only if there is a DSL configured for this package).
      */
     private Expander getDSLExpander( final Path path ) {
-        final Expander expander = new DefaultExpander();
-        final List<DSLMappingFile> dsls = getDSLMappingFiles( path );
-        for ( DSLMappingFile dsl : dsls ) {
-            expander.addDSLMapping( dsl.getMapping() );
-        }
-        return expander;
-    }
-
-    private List<DSLMappingFile> getDSLMappingFiles( final Path path ) {
-        final List<DSLMappingFile> dsls = new ArrayList<DSLMappingFile>();
-        final org.uberfire.backend.vfs.Path vfsPath = Paths.convert( path );
-        final org.uberfire.backend.vfs.Path packagePath = projectService.resolvePackage( vfsPath ).getPackageMainResourcesPath();
-        final org.uberfire.java.nio.file.Path nioPackagePath = Paths.convert( packagePath );
-        final Collection<Path> dslPaths = fileDiscoveryService.discoverFiles( nioPackagePath,
-                                                                              FILTER_DSLS );
-        for ( final org.uberfire.java.nio.file.Path dslPath : dslPaths ) {
-            final String dslDefinition = ioService.readAllString( dslPath );
-            final DSLTokenizedMappingFile dslFile = new DSLTokenizedMappingFile();
-            try {
-                if ( dslFile.parseAndLoad( new StringReader( dslDefinition ) ) ) {
-                    dsls.add( dslFile );
-                } else {
-                    logger.error( "Unable to parse DSL definition: " + dslDefinition );
-                }
-            } catch ( IOException ioe ) {
-                logger.error( ioe.getMessage() );
-            }
-        }
-        return dsls;
+        return dslMappingFileCache.getDSLExpander( Arrays.asList( utilities.loadDslsForPackage( Paths.convert( path ) ) ) );
     }
 
 }
@@ -18,7 +18,9 @@ package org.drools.workbench.screens.guided.rule.backend.server;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -32,6 +34,7 @@ import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
 import org.uberfire.java.nio.base.options.CommentedOption;
+import org.uberfire.java.nio.file.attribute.BasicFileAttributes;
 import org.uberfire.rpc.SessionInfo;
 
 /**
@@ -44,6 +47,8 @@ public class GuidedRuleEditorServiceUtilities {
 
     private static final DSLFileFilter FILTER_DSLS = new DSLFileFilter();
 
+    private static final int MAX_DSL_FILES = 200;
+
     @Inject
     private User identity;
 
@@ -60,8 +65,19 @@ public class GuidedRuleEditorServiceUtilities {
     @Inject
     private KieProjectService projectService;
 
+    //DSL file = its content, read again only when the file was changed since
+    private final Map<org.uberfire.java.nio.file.Path, DSLFile> dslFiles = new LinkedHashMap<org.uberfire.java.nio.file.Path, DSLFile>( 16,
+                                                                                                                                      0.75f,
+                                                                                                                                      true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<org.uberfire.java.nio.file.Path, DSLFile> eldest ) {
+            return size() > MAX_DSL_FILES;
+        }
+    };
+
     /**
-     * Load DSL definitions held in the Package relating to the provide Path
+     * Load DSL definitions held in the Package relating to the provide Path. The Package is searched for DSL files
+     * every time, but a file is only read again when its modification time or size changed.
      * @param path
      * @return
      */
@@ -72,13 +88,35 @@ public class GuidedRuleEditorServiceUtilities {
         final Collection<org.uberfire.java.nio.file.Path> dslPaths = fileDiscoveryService.discoverFiles( nioPackagePath,
                                                                                                          FILTER_DSLS );
         for ( final org.uberfire.java.nio.file.Path dslPath : dslPaths ) {
-            final String dslDefinition = ioService.readAllString( dslPath );
-            dsls.add( dslDefinition );
+            dsls.add( loadDsl( dslPath ) );
         }
         final String[] result = new String[ dsls.size() ];
         return dsls.toArray( result );
     }
 
+    private String loadDsl( final org.uberfire.java.nio.file.Path dslPath ) {
+        final BasicFileAttributes attributes = ioService.readAttributes( dslPath,
+                                                                         BasicFileAttributes.class );
+        final long lastModified = attributes.lastModifiedTime().toMillis();
+        final long size = attributes.size();
+
+        synchronized ( dslFiles ) {
+            final DSLFile dslFile = dslFiles.get( dslPath );
+            if ( dslFile != null && dslFile.lastModified == lastModified && dslFile.size == size ) {
+                return dslFile.content;
+            }
+        }
+
+        final String dslDefinition = ioService.readAllString( dslPath );
+        synchronized ( dslFiles ) {
+            dslFiles.put( dslPath,
+                          new DSLFile( lastModified,
+                                       size,
+                                       dslDefinition ) );
+        }
+        return dslDefinition;
+    }
+
     /**
      * Load Global definitions held in the Package relating to the provide Path
      * @param path
@@ -96,4 +134,19 @@ public class GuidedRuleEditorServiceUtilities {
         }
         return globals;
     }
+
+    private static class DSLFile {
+
+        private final long   lastModified;
+        private final long   size;
+        private final String content;
+
+        private DSLFile( final long lastModified,
+                         final long size,
+                         final String content ) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.content = content;
+        }
+    }
 }
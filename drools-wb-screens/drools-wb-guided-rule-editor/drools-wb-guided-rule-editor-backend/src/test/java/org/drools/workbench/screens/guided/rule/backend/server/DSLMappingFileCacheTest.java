@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.rule.backend.server;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.drools.compiler.lang.dsl.DSLMappingFile;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DSLMappingFileCacheTest {
+
+    private static final String DSL1 = "[when]There is a person=Person()";
+    private static final String DSL2 = "[when]There is a car=Car()";
+    private static final String DSL3 = "[when]There is a bus=Bus()";
+    private static final String INVALID_DSL = "[when]There is a person";
+
+    private final DSLMappingFileCache cache = new DSLMappingFileCache( 2 );
+
+    @Test
+    public void testDSLsAreParsedOnce() {
+        final List<DSLMappingFile> dsls1 = cache.getDSLMappingFiles( Arrays.asList( DSL1,
+                                                                                    DSL2 ) );
+        assertEquals( 2,
+                      dsls1.size() );
+        assertEquals( 0,
+                      cache.getHits() );
+        assertEquals( 2,
+                      cache.getMisses() );
+
+        final List<DSLMappingFile> dsls2 = cache.getDSLMappingFiles( Arrays.asList( DSL1,
+                                                                                    DSL2 ) );
+        assertSame( dsls1.get( 0 ),
+                    dsls2.get( 0 ) );
+        assertSame( dsls1.get( 1 ),
+                    dsls2.get( 1 ) );
+        assertEquals( 2,
+                      cache.getHits() );
+        assertEquals( 2,
+                      cache.getMisses() );
+    }
+
+    @Test
+    public void testChangedDSLIsParsedAgain() {
+        final DSLMappingFile dsl1 = cache.getDSLMappingFiles( Arrays.asList( DSL1 ) ).get( 0 );
+        final DSLMappingFile dsl2 = cache.getDSLMappingFiles( Arrays.asList( DSL1 + "\n" + DSL2 ) ).get( 0 );
+
+        assertNotSame( dsl1,
+                       dsl2 );
+        assertEquals( 1,
+                      dsl1.getMapping().getEntries().size() );
+        assertEquals( 2,
+                      dsl2.getMapping().getEntries().size() );
+        assertEquals( 2,
+                      cache.getMisses() );
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDSLsAreDropped() {
+        cache.getDSLMappingFiles( Arrays.asList( DSL1,
+                                                 DSL2 ) );
+
+        //Use DSL1 so DSL2 is the least recently used
+        cache.getDSLMappingFiles( Arrays.asList( DSL1 ) );
+        cache.getDSLMappingFiles( Arrays.asList( DSL3 ) );
+        assertEquals( 2,
+                      cache.size() );
+
+        cache.getDSLMappingFiles( Arrays.asList( DSL1 ) );
+        assertEquals( 2,
+                      cache.getHits() );
+        cache.getDSLMappingFiles( Arrays.asList( DSL2 ) );
+        assertEquals( 4,
+                      cache.getMisses() );
+    }
+
+    @Test
+    public void testInvalidDSLIsParsedOnce() {
+        assertTrue( cache.getDSLMappingFiles( Arrays.asList( INVALID_DSL ) ).isEmpty() );
+        assertTrue( cache.getDSLMappingFiles( Arrays.asList( INVALID_DSL ) ).isEmpty() );
+
+        assertEquals( 1,
+                      cache.getHits() );
+        assertEquals( 1,
+                      cache.getMisses() );
+    }
+
+    @Test
+    public void testExpanderUsesDSLs() {
+        final String drl = cache.getDSLExpander( Arrays.asList( DSL1 ) ).expand( "rule \"r\"\nwhen\n  There is a person\nthen\nend\n" );
+
+        assertTrue( drl.contains( "Person()" ) );
+    }
+
+}